@@ -38,6 +38,10 @@ import java.util.Set;
  *          .addOption(CacheRetrieveMode.BYPASS)  // bypass the cache
  *          .addOption(new BatchFetch(10));  // select batch fetching
  *}
+ * {@snippet :
+ * bookGraph.addAttributeNode(Book_.authors)
+ *          .addOption(new SubselectFetch());  // select subselect fetching
+ *}
  * <p>
  * Added and removed nodes may be obtained by calling
  * {@link Graph#getAttributeNodes()}.
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package jakarta.persistence;
+
+/**
+ * Thrown by the persistence provider when the application accesses
+ * the value of an attribute of a {@linkplain LoadScope#GRAPH partially
+ * loaded} entity instance, and the attribute was not loaded because it
+ * did not belong to the entity graph used to retrieve the instance.
+ *
+ * <p> This exception type is considered recoverable. When this
+ * exception type is thrown, the current transaction is not
+ * automatically marked for rollback.
+ *
+ * @see LoadScope#GRAPH
+ *
+ * @since 4.0
+ */
+public class AttributeNotLoadedException extends PersistenceException {
+
+    /** The name of the attribute which was not loaded */
+    private final String attributeName;
+
+    /**
+     * Constructs a new {@code AttributeNotLoadedException} exception
+     * with the specified detail message.
+     * @param   message   the detail message.
+     */
+    public AttributeNotLoadedException(String message) {
+        super(message);
+        this.attributeName = null;
+    }
+
+    /**
+     * Constructs a new {@code AttributeNotLoadedException} exception
+     * with the specified detail message and attribute name.
+     * @param   message   the detail message.
+     * @param   attributeName   the name of the attribute which was
+     *                          not loaded.
+     */
+    public AttributeNotLoadedException(String message, String attributeName) {
+        super(message);
+        this.attributeName = attributeName;
+    }
+
+    /**
+     * Returns the name of the attribute which was not loaded.
+     * @return the attribute name, or null if not known
+     */
+    public String getAttributeName() {
+        return attributeName;
+    }
+}
@@ -88,6 +88,10 @@ public @interface Basic {
      *     to the persistence provider runtime.
      * </ul>
      *
+     * <p>Lazily fetched attributes may be assigned to a
+     * {@linkplain FetchGroup fetch group}, so that they are
+     * loaded together.
+     *
      * <p>If not specified, defaults to {@code EAGER}.
      */
     FetchType fetch() default FetchType.EAGER;
@@ -15,12 +15,64 @@
 
 package jakarta.persistence;
 
+import jakarta.annotation.Nonnull;
+
 /**
  * Specifies a batch size, that is, how many entities should be
  * fetched in each request to the database. This option is always
  * a hint, and might be ignored by the persistence provider.
+ * <p>
+ * The special batch size {@value #ADAPTIVE} requests adaptive
+ * batch fetching, where the persistence provider determines the
+ * size of each batch when the batch is fetched:
+ * <ul>
+ * <li>the batch size is the number of uninitialized references to
+ *     entities of the same type, or of uninitialized instances of
+ *     the same collection, held in the persistence context, but
+ * <li>is limited by the maximum number of parameters permitted in
+ *     a single SQL statement by the database, and by the property
+ *     {@value Persistence.FetchProperties#FETCH_BATCH_SIZE_LIMIT},
+ *     if specified, and
+ * <li>is rounded up to one of a small number of fixed sizes, with
+ *     the additional parameters padded with repeated values, so
+ *     that the number of distinct SQL statements executed, and
+ *     therefore prepared and cached, remains small.
+ * </ul>
+ * {@snippet :
+ * bookGraph.addAttributeNode(Book_.authors)
+ *          .addOption(BatchFetch.adaptive());
+ * }
+ *
+ * @param batchSize The batch size, or {@value #ADAPTIVE} for
+ *                  adaptive batch fetching
+ *
+ * @see Fetch#batchSize()
+ * @see Persistence.FetchProperties#FETCH_BATCH_SIZE
  *
  * @since 4.0
  */
 public record BatchFetch(int batchSize) implements FetchOption {
+
+    /**
+     * The batch size which requests adaptive batch fetching.
+     */
+    public static final int ADAPTIVE = 0;
+
+    /**
+     * Request adaptive batch fetching, where the batch size is
+     * determined by the persistence provider.
+     * @return an option requesting adaptive batch fetching
+     */
+    @Nonnull
+    public static BatchFetch adaptive() {
+        return new BatchFetch(ADAPTIVE);
+    }
+
+    /**
+     * Whether this option requests adaptive batch fetching.
+     * @return {@code true} if the batch size is {@link #ADAPTIVE}
+     */
+    public boolean isAdaptive() {
+        return batchSize == ADAPTIVE;
+    }
 }
\ No newline at end of file
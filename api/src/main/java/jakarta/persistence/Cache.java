@@ -17,6 +17,11 @@
 package jakarta.persistence;
 
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import jakarta.persistence.metamodel.PluralAttribute;
+
+import java.util.Collection;
+import java.util.function.Predicate;
 
 /**
  * Interface used to interact with the second-level cache.
@@ -24,6 +29,13 @@ import jakarta.annotation.Nonnull;
  * interface have no effect, except for {@link #contains},
  * which returns false.
  *
+ * <p>The state held in the second-level cache may be stored on or
+ * off the Java heap, as determined by the {@link CacheStorageMode}
+ * of the persistence unit. Provider-specific facilities for managing
+ * the storage may be obtained via {@link #unwrap(Class)}.
+ *
+ * @see CacheStorageMode
+ *
  * @since 2.0
  */
 public interface Cache {
@@ -50,6 +62,128 @@ public interface Cache {
      */
     void evict(@Nonnull Class<?> cls);
 
+    /**
+     * Whether the cache contains a snapshot of the given
+     * {@linkplain NamedEntityGraph#cacheable cacheable} named
+     * entity graph rooted at the entity with the given primary key.
+     * @param graph  a named entity graph
+     * @param primaryKey  primary key of the root entity
+     * @return boolean indicating whether the graph snapshot is in
+     *         the cache
+     * @since 4.0
+     */
+    boolean contains(@Nonnull EntityGraph<?> graph,
+                     @Nonnull Object primaryKey);
+
+    /**
+     * Remove every snapshot of the given
+     * {@linkplain NamedEntityGraph#cacheable cacheable} named
+     * entity graph from the cache. The state of the individual
+     * entities and collections belonging to the graph is not
+     * affected.
+     * @param graph  a named entity graph
+     * @since 4.0
+     */
+    void evict(@Nonnull EntityGraph<?> graph);
+
+    /**
+     * Remove the data for the entities of the given class with
+     * the given primary keys from the cache. This operation is
+     * equivalent to calling {@link #evict(Class, Object)} for
+     * each primary key, but should be executed by the provider
+     * as a single operation on the cache.
+     * @param cls  entity class
+     * @param primaryKeys  primary keys
+     * @since 4.0
+     */
+    void evictAll(@Nonnull Class<?> cls,
+                  @Nonnull Collection<?> primaryKeys);
+
+    /**
+     * Remove the data for the entities of the given class with
+     * primary keys in the given range from the cache. The range
+     * includes its bounds. A null bound indicates that the range
+     * is unbounded below or above.
+     * @param cls  entity class
+     * @param lowerBound  the smallest primary key in the range,
+     *                    or null if the range is unbounded below
+     * @param upperBound  the largest primary key in the range,
+     *                    or null if the range is unbounded above
+     * @param <K> the type of the primary key
+     * @throws IllegalArgumentException if the primary key type of
+     *         the entity is not assignable to the type of the given
+     *         bounds
+     * @since 4.0
+     */
+    <K extends Comparable<? super K>>
+    void evictRange(@Nonnull Class<?> cls,
+                    @Nullable K lowerBound, @Nullable K upperBound);
+
+    /**
+     * Remove the data for the entities of the given class whose
+     * primary keys satisfy the given predicate from the cache.
+     * The predicate might be evaluated concurrently by several
+     * threads, and must not access the persistence context.
+     * @param cls  entity class
+     * @param primaryKeyPredicate  a predicate accepting primary
+     *                             keys of entities to be evicted
+     * @since 4.0
+     */
+    void evictIf(@Nonnull Class<?> cls,
+                 @Nonnull Predicate<Object> primaryKeyPredicate);
+
+    /**
+     * Remove all data held in the given region of the cache.
+     * <ul>
+     * <li>The region holding the data of an entity is named by the
+     *     {@linkplain Entity#name entity name}.
+     * <li>The region holding the state of a collection is named by
+     *     the entity name of the owning entity, followed by
+     *     {@code .} and the name of the collection-valued attribute.
+     * <li>The names of other regions, for example, regions holding
+     *     query results, are determined by the persistence provider.
+     * </ul>
+     * If there is no region with the given name, this method has
+     * no effect.
+     * @param regionName  the name of the region
+     * @since 4.0
+     */
+    void evictRegion(@Nonnull String regionName);
+
+    /**
+     * Whether the cache contains the state of the given collection
+     * belonging to the entity with the given primary key.
+     * @param collection  a collection-valued attribute
+     * @param primaryKey  primary key of the owning entity
+     * @return boolean indicating whether the collection is in the cache
+     * @see Cacheable
+     * @since 4.0
+     */
+    boolean contains(@Nonnull PluralAttribute<?,?,?> collection,
+                     @Nonnull Object primaryKey);
+
+    /**
+     * Remove the state of the given collection belonging to the
+     * entity with the given primary key from the cache. The state
+     * of the owning entity and of the associated entities is not
+     * affected.
+     * @param collection  a collection-valued attribute
+     * @param primaryKey  primary key of the owning entity
+     * @see Cacheable
+     * @since 4.0
+     */
+    void evict(@Nonnull PluralAttribute<?,?,?> collection,
+               @Nonnull Object primaryKey);
+
+    /**
+     * Remove the state of the given collection from the cache, for
+     * every owning entity.
+     * @param collection  a collection-valued attribute
+     * @see Cacheable
+     * @since 4.0
+     */
+    void evict(@Nonnull PluralAttribute<?,?,?> collection);
+
     /**
      * Clear the cache.
      */
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package jakarta.persistence;
+
+import java.util.Map;
+
+/**
+ * Enumerates policies which control how the second-level cache
+ * stores the state of cached entities and collections. The storage
+ * mode is common across all entity managers and entity agents for
+ * a given persistence unit.
+ * <p>
+ * A {@code CacheStorageMode} may be specified by the property
+ * {@value Persistence.CacheProperties#CACHE_STORAGE_MODE}.
+ * <p>
+ * Regardless of the storage mode, the second-level cache holds the
+ * <em>disassembled</em> state of an entity, and never a reference
+ * to an entity instance belonging to a persistence context. When
+ * the state is stored in a serialized form, an entity instance is
+ * assembled from the stored state only when the cached entry is
+ * read.
+ * <p>
+ * A persistence provider which does not support a given storage
+ * mode must use its default storage mode instead. Provider-specific
+ * facilities for inspecting or managing the storage, for example,
+ * for monitoring the amount of memory it occupies, may be obtained
+ * by calling {@link Cache#unwrap(Class)}.
+ *
+ * @see Persistence.CacheProperties#CACHE_STORAGE_MODE
+ * @see Persistence.CacheProperties#CACHE_STORAGE_SIZE
+ * @see Persistence#createEntityManagerFactory(String, Map)
+ *
+ * @since 4.0
+ */
+public enum CacheStorageMode {
+
+    /**
+     * The cached state is held in the Java heap, as Java objects,
+     * in a form chosen by the persistence provider.
+     */
+    HEAP,
+
+    /**
+     * The cached state is held in the Java heap in a compact binary
+     * form, for example, as an array of bytes, reducing the number
+     * of objects which must be traced by the garbage collector.
+     */
+    SERIALIZED,
+
+    /**
+     * The cached state is held in a compact binary form in memory
+     * allocated outside the Java heap, for example, in a direct
+     * {@link java.nio.ByteBuffer} or a
+     * {@code java.lang.foreign.MemorySegment}. The amount of memory
+     * used may be limited by setting the property
+     * {@value Persistence.CacheProperties#CACHE_STORAGE_SIZE}.
+     */
+    OFF_HEAP,
+
+    /**
+     * The persistence provider determines how the cached state is
+     * stored, according to vendor-specific semantics.
+     * <p>
+     * This is the default mode.
+     */
+    UNSPECIFIED
+}
@@ -16,15 +16,17 @@
 
 package jakarta.persistence;
 
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
 import static java.lang.annotation.ElementType.TYPE;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 
 /**
- * Specifies whether an entity should be cached, if caching is enabled,
- * and when the value of the {@code persistence.xml} caching element is
- * {@link SharedCacheMode#ENABLE_SELECTIVE} or
+ * Specifies whether an entity or collection should be cached, if
+ * caching is enabled, and when the value of the {@code persistence.xml}
+ * caching element is {@link SharedCacheMode#ENABLE_SELECTIVE} or
  * {@link SharedCacheMode#DISABLE_SELECTIVE}.
  *
  * <p>The value of the {@code Cacheable} annotation is inherited by
@@ -33,15 +35,44 @@ import java.lang.annotation.Target;
  * 
  * <p>{@code Cacheable(false)} means that the entity and its state must
  * not be cached by the provider.
- * 
+ *
+ * <p>When applied to a collection-valued field or property annotated
+ * {@link OneToMany}, {@link ManyToMany}, or {@link ElementCollection},
+ * this annotation specifies whether the state of the collection should
+ * be stored in the second-level cache. For an association, the cached
+ * state of the collection comprises the primary keys of the associated
+ * entities; for an element collection, it comprises the elements. The
+ * cached state is keyed by the primary key of the owning entity. A
+ * collection is never cached unless its owning entity is eligible for
+ * storage in the second-level cache.
+ * {@snippet :
+ * @Cacheable
+ * @Entity
+ * class Order {
+ *     @Id long id;
+ *
+ *     @Cacheable
+ *     @OneToMany(mappedBy = LineItem_.ORDER)
+ *     List<LineItem> lineItems;
+ *     ...
+ * }
+ * }
+ *
+ * <p>The persistence provider must evict or update the cached state
+ * of a collection when a change to the collection, or to the owning
+ * side of the association, is flushed to the database.
+ *
+ * @see Cache#evict(jakarta.persistence.metamodel.PluralAttribute, Object)
+ *
  * @since 2.0
  */
-@Target(TYPE)
+@Target({TYPE, METHOD, FIELD})
 @Retention(RUNTIME)
 public @interface Cacheable {
 
     /**
-     * (Optional) Whether or not the entity should be cached.
+     * (Optional) Whether or not the entity or collection should
+     * be cached.
      */
     boolean value() default true;
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package jakarta.persistence;
+
+/**
+ * Specifies how a collection passed as the argument of a query
+ * parameter occurring as the right operand of an {@code IN} or
+ * {@code NOT IN} predicate is bound to the SQL statement.
+ * <p>
+ * With {@link #EXPANDED} binding, the SQL statement has one JDBC
+ * parameter for each element of the collection, and so a distinct
+ * SQL statement is prepared for each size of collection, and the
+ * number of elements is limited by the maximum number of parameters
+ * permitted by the database. With {@link #ARRAY} binding, the whole
+ * collection is bound to a single JDBC parameter, and the SQL
+ * statement is independent of the size of the collection.
+ * {@snippet :
+ * List<Book> books =
+ *         em.createQuery("from Book where isbn in :isbns", Book.class)
+ *           .setParameter("isbns", isbns)
+ *           .addOption(CollectionParameterBinding.ARRAY)
+ *           .getResultList();
+ * }
+ * <p>
+ * The default binding may be specified by the property
+ * {@value Persistence.JdbcProperties#COLLECTION_PARAMETER_BINDING}.
+ * If not specified, {@link #EXPANDED} binding is used.
+ *
+ * @see jakarta.persistence.criteria.Expression#in(jakarta.persistence.criteria.Expression)
+ *
+ * @since 4.0
+ */
+public enum CollectionParameterBinding
+        implements TypedQuery.Option, Statement.Option {
+
+    /**
+     * Each element of the collection is bound to a separate JDBC
+     * parameter. The persistence provider may pad the list of
+     * parameters to one of a small number of fixed sizes, by
+     * repeating the last element, in order to limit the number of
+     * distinct SQL statements.
+     */
+    EXPANDED,
+
+    /**
+     * The collection is bound to a single JDBC parameter, as a
+     * {@linkplain java.sql.Connection#createArrayOf SQL array} or
+     * as a table-valued parameter. An {@code IN} predicate is
+     * rendered using an equivalent construct, such as
+     * {@code = ANY(?)}, a join with {@code UNNEST(?)}, or a join
+     * with a {@code VALUES} list, and a {@code NOT IN} predicate
+     * using a construct such as {@code <> ALL(?)}, according to the
+     * capabilities of the database.
+     * <p>
+     * If the database supports none of these constructs, the
+     * persistence provider must fall back transparently to
+     * {@link #EXPANDED} binding, splitting the collection into
+     * chunks of fixed size, each bound to a separate list of JDBC
+     * parameters, so that no limit on the number of elements of a
+     * single list is exceeded. For an {@code IN} predicate, the
+     * chunks are combined by disjunction, and for a {@code NOT IN}
+     * predicate, by conjunction. The elements of the collection are
+     * always bound as JDBC parameters, and never rendered into the
+     * text of the SQL statement. In every case, the results of the
+     * query are unaffected.
+     */
+    ARRAY
+}
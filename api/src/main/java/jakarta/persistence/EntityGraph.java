@@ -85,6 +85,15 @@ import jakarta.annotation.Nullable;
  * Employee employee = entityManager.get(employeeGraph, employeeId);
  *}
  * <p>
+ * An entity graph may also be obtained from a compact textual
+ * representation, which is parsed once and cached by the
+ * {@link EntityManagerFactory}:
+ * {@snippet :
+ * var employeeGraph =
+ *         entityManager.parseEntityGraph(Employee.class,
+ *                 "employer(industry), projects(lead, tasks)");
+ * }
+ * <p>
  * The persistence provider is always permitted to fetch additional
  * entity state beyond that specified by a fetch graph or load graph.
  * It is required, however, that the persistence provider fetch all
@@ -107,6 +116,7 @@ import jakarta.annotation.Nullable;
  * @see EntityHandler#getEntityGraph(Class,String)
  * @see EntityManagerFactory#addNamedEntityGraph(String, EntityGraph)
  * @see EntityManagerFactory#getNamedEntityGraphs(Class)
+ * @see EntityManagerFactory#parseEntityGraph(Class, String)
  * @see EntityHandler#find(EntityGraph, Object, FindOption...)
  * @see EntityHandler#get(EntityGraph, Object, FindOption...)
  * @see EntityHandler#createQuery(String, EntityGraph)
@@ -673,8 +673,8 @@ public interface EntityHandler extends AutoCloseable {
 
     /**
      * Create an instance of {@link Statement} for executing a
-     * Jakarta Persistence {@code UPDATE} or {@code DELETE}
-     * statement.
+     * Jakarta Persistence {@code UPDATE}, {@code DELETE}, or
+     * {@code INSERT} statement.
      *
      * @param qlString A Jakarta Persistence statement string
      * @return An instance of {@link Statement} which may be
@@ -829,7 +829,7 @@ public interface EntityHandler extends AutoCloseable {
 
     /**
      * Create an instance of {@link Statement} for executing a
-     * named {@code UPDATE} or {@code DELETE} statement written
+     * named {@code UPDATE}, {@code DELETE}, or {@code INSERT} statement written
      * in the Jakarta Persistence Query Language, or a named native
      * SQL statement which returns a row count.
      * @param name The name of a statement defined in metadata
@@ -1380,6 +1380,26 @@ public interface EntityHandler extends AutoCloseable {
     <T> EntityGraph<T> getEntityGraph(@Nonnull Class<T> rootType,
                                       @Nonnull String graphName);
 
+    /**
+     * Obtain an immutable {@link EntityGraph} with the given root
+     * entity type from its textual representation, as specified by
+     * {@link EntityManagerFactory#parseEntityGraph(Class, String)}.
+     * This method returns the same graph as the corresponding
+     * method of the {@link #getEntityManagerFactory factory}.
+     *
+     * @param rootType the root entity type of the graph
+     * @param graph the textual representation of the graph
+     * @param <T> The root entity type
+     * @return an immutable entity graph
+     * @throws IllegalArgumentException if the text is not a
+     *         syntactically valid entity graph, or if it refers
+     *         to an attribute or entity which does not exist
+     * @since 4.0
+     */
+    @Nonnull
+    <T> EntityGraph<T> parseEntityGraph(@Nonnull Class<T> rootType,
+                                        @Nonnull String graph);
+
     /**
      * Return all named {@link EntityGraph}s that are defined for
      * the given entity class type.
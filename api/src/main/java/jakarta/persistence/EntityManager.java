@@ -896,6 +896,24 @@ public interface EntityManager extends EntityHandler {
     @Nonnull
     Set<Option> getOptions();
 
+    /**
+     * Obtain the {@linkplain LoadStatistics counters} of lazy
+     * initializations and executed statements for this entity
+     * manager. The returned object reflects the current values of
+     * the counters, which are incremented as the entity manager
+     * is used.
+     *
+     * @return the load statistics for this entity manager
+     * @throws IllegalStateException if the entity manager has
+     *         been closed
+     *
+     * @see LazyLoadingMode
+     *
+     * @since 4.0
+     */
+    @Nonnull
+    LoadStatistics getLoadStatistics();
+
     /**
      * An option controlling the creation of an entity manager.
      *
@@ -920,6 +938,7 @@ public interface EntityManager extends EntityHandler {
      * @see FlushModeType
      * @see CacheRetrieveMode
      * @see CacheStoreMode
+     * @see LazyLoadingMode
      *
      * @since 4.0
      */
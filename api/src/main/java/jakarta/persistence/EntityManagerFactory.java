@@ -20,6 +20,7 @@
 package jakarta.persistence;
 
 import java.lang.annotation.Annotation;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -28,6 +29,8 @@ import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import jakarta.persistence.metamodel.Metamodel;
 import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaSelect;
+import jakarta.persistence.criteria.CriteriaStatement;
 import jakarta.persistence.sql.ResultSetMapping;
 
 /**
@@ -357,6 +360,23 @@ public interface EntityManagerFactory extends AutoCloseable {
     @Nonnull
     PersistenceUnitUtil getPersistenceUnitUtil();
 
+    /**
+     * Return the {@linkplain FetchAdvice fetch advice} collected for
+     * operations executed by entity managers and entity agents
+     * created by this factory, when {@linkplain FetchProfilingMode
+     * fetch profiling} is enabled.
+     * @return a list with an element for each profiled operation,
+     *         or an empty list if fetch profiling is disabled
+     * @throws IllegalStateException if the entity manager factory
+     *         has been closed
+     *
+     * @see Persistence.FetchProperties#FETCH_PROFILING_MODE
+     *
+     * @since 4.0
+     */
+    @Nonnull
+    List<FetchAdvice<?>> getFetchAdvice();
+
     /**
      * The type of transaction management used by this persistence
      * unit, either resource-local transaction management, or JTA.
@@ -475,6 +495,85 @@ public interface EntityManagerFactory extends AutoCloseable {
     StatementReference addNamedStatement(@Nonnull String name,
                                          @Nonnull Statement statement);
 
+    /**
+     * Compile the given {@linkplain CriteriaSelect criteria query}
+     * and return an immutable {@linkplain TypedQueryReference
+     * reference} to the compiled query. The reference may be
+     * retained by the program, shared between threads, and
+     * passed to {@link EntityHandler#createQuery(TypedQueryReference)}
+     * of any entity manager or entity agent created by this
+     * factory, to execute the query repeatedly without rebuilding
+     * or retranslating it.
+     * <p>The criteria query should be expressed in terms of
+     * {@linkplain CriteriaBuilder#parameter parameters}, whose
+     * arguments are supplied to each {@link TypedQuery} created
+     * from the reference by calling {@code setParameter}, passing
+     * either the {@link jakarta.persistence.criteria.ParameterExpression}
+     * itself, or its name or position. Subsequent mutation of the
+     * given criteria query does not affect the compiled query.
+     * {@snippet :
+     * var builder = factory.getCriteriaBuilder();
+     * var query = builder.createQuery(Book.class);
+     * var book = query.from(Book.class);
+     * var pattern = builder.parameter(String.class, "pattern");
+     * query.where(builder.like(book.get(Book_.title), pattern));
+     * TypedQueryReference<Book> booksByTitle = factory.compileQuery(query);
+     * ...
+     * List<Book> books =
+     *         entityManager.createQuery(booksByTitle)
+     *                 .setParameter("pattern", "%Hibernate%")
+     *                 .getResultList();
+     * }
+     * <p>The reference has no {@linkplain Reference#getName name},
+     * and no {@linkplain Reference#getArguments arguments}. Unlike
+     * {@link #addNamedQuery(String, TypedQuery)}, this method does
+     * not define a named query.
+     *
+     * @param query a criteria query
+     * @param <R> the query result type
+     * @return a reference to the compiled query
+     * @throws IllegalArgumentException if the criteria query is
+     *         found to be invalid
+     * @throws IllegalStateException if the entity manager factory
+     *         has been closed
+     *
+     * @see EntityHandler#createQuery(TypedQueryReference)
+     *
+     * @since 4.0
+     */
+    @Nonnull
+    <R> TypedQueryReference<R> compileQuery(@Nonnull CriteriaSelect<R> query);
+
+    /**
+     * Compile the given {@linkplain CriteriaStatement criteria
+     * statement} (insert, update, or delete) and return an immutable {@linkplain
+     * StatementReference reference} to the compiled statement.
+     * The reference may be retained by the program, shared
+     * between threads, and passed to
+     * {@link EntityHandler#createStatement(StatementReference)}
+     * of any entity manager or entity agent created by this
+     * factory, to execute the statement repeatedly without
+     * rebuilding or retranslating it.
+     * <p>Arguments to the {@linkplain CriteriaBuilder#parameter
+     * parameters} of the statement are supplied to each
+     * {@link Statement} created from the reference. Subsequent
+     * mutation of the given criteria statement does not affect
+     * the compiled statement.
+     *
+     * @param statement a criteria statement (insert, update, or delete)
+     * @return a reference to the compiled statement
+     * @throws IllegalArgumentException if the criteria statement
+     *         is found to be invalid
+     * @throws IllegalStateException if the entity manager factory
+     *         has been closed
+     *
+     * @see EntityHandler#createStatement(StatementReference)
+     *
+     * @since 4.0
+     */
+    @Nonnull
+    StatementReference compileStatement(@Nonnull CriteriaStatement<?> statement);
+
     /**
      * Return an object of the specified type to allow access to
      * a provider-specific API. If the provider implementation of
@@ -505,6 +604,57 @@ public interface EntityManagerFactory extends AutoCloseable {
     <T> void addNamedEntityGraph(@Nonnull String graphName,
                                  @Nonnull EntityGraph<T> entityGraph);
 
+    /**
+     * Obtain an immutable {@link EntityGraph} with the given root
+     * entity type from its textual representation. The text is a
+     * comma-separated list of attribute nodes. Each node is the
+     * name of a persistent attribute, optionally followed by a
+     * subgraph, that is, a list of attribute nodes enclosed in
+     * parentheses. A subgraph for an entity subclass may be
+     * specified by following the attribute name with a colon and
+     * the entity name of the subclass.
+     * {@snippet :
+     * // fetch the title, the author with its name, and the
+     * // publisher of the author
+     * EntityGraph<Book> graph =
+     *         emf.parseEntityGraph(Book.class,
+     *                              "title, author(name, publisher)");
+     * // fetch a subclass-specific attribute of the author
+     * EntityGraph<Book> treated =
+     *         emf.parseEntityGraph(Book.class,
+     *                              "author:Novelist(agent)");
+     * }
+     * The formal syntax is:
+     * <pre>
+     * graph          ::= attribute_list
+     * attribute_list ::= attribute_node ("," attribute_node)*
+     * attribute_node ::= attribute_name (":" entity_name)? ("(" attribute_list ")")?
+     * </pre>
+     * Whitespace between tokens is ignored.
+     * <p>
+     * The persistence provider caches parsed graphs, so that
+     * repeated calls with the same root type and text return the
+     * same instance without parsing or resolving the text again.
+     * The returned graph may be freely shared between threads and
+     * entity managers. Any operation which would mutate the
+     * returned graph throws {@link IllegalStateException}; a
+     * mutable copy may be obtained by adding the graph as a
+     * {@linkplain #addNamedEntityGraph named entity graph} and
+     * calling {@link EntityHandler#getEntityGraph(Class, String)}.
+     *
+     * @param rootType  the root entity type of the graph
+     * @param graph  the textual representation of the graph
+     * @param <T> the root entity type
+     * @return an immutable entity graph
+     * @throws IllegalArgumentException if the text is not a
+     *         syntactically valid entity graph, or if it refers
+     *         to an attribute or entity which does not exist
+     * @since 4.0
+     */
+    @Nonnull
+    <T> EntityGraph<T> parseEntityGraph(@Nonnull Class<T> rootType,
+                                        @Nonnull String graph);
+
     /**
      * A map keyed by {@linkplain NamedQuery#name query name}, containing
      * {@linkplain TypedQueryReference references} to every named query
@@ -57,6 +57,13 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
  * List<Author> authors;
  * }
  * <p>
+ * In this example, subselect fetching is selected for a collection:
+ * {@snippet :
+ * @Fetch(type = LAZY, subselect = true)
+ * @OneToMany(mappedBy = Chapter_.BOOK)
+ * List<Chapter> chapters;
+ * }
+ * <p>
  * In this example, the options only apply when the named entity
  * graph {@code BooksWithAuthors} is used:
  * {@snippet :
@@ -125,9 +132,26 @@ public @interface Fetch {
      * A batch size, that is, how many entities should be fetched
      * in each request to the database. This option is always a
      * hint, and might be ignored by the persistence provider.
+     * <p>
+     * The value {@value BatchFetch#ADAPTIVE} requests adaptive
+     * batch fetching, where the persistence provider determines
+     * the size of each batch, as specified by {@link BatchFetch}.
      */
     int batchSize() default -1;
 
+    /**
+     * Specifies that, when the annotated collection is initialized
+     * for one owning entity retrieved by a query, the collection
+     * should be initialized for every owning entity retrieved by
+     * the same query, using a single request to the database with
+     * the restriction of the original query applied as a subquery.
+     * This option is always a hint, and might be ignored by the
+     * persistence provider.
+     *
+     * @see SubselectFetch
+     */
+    boolean subselect() default false;
+
     /**
      * Specifies whether the persistence provider should cache
      * the associated entity after fetching it from the database.
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package jakarta.persistence;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.Map;
+
+/**
+ * Reports the associations and collections initialized after
+ * executions of a given profiled operation, along with an entity
+ * graph suggested by the persistence provider for the operation.
+ * Fetch advice is collected only when {@linkplain FetchProfilingMode
+ * fetch profiling} is enabled.
+ * <p>
+ * Each instance reports on a single <em>operation</em>, identified
+ * by its {@linkplain #getOperation key}:
+ * <ul>
+ * <li>for a {@linkplain NamedQuery named query}, the key is the
+ *     name of the query,
+ * <li>for any other query, the key is the text of the query or,
+ *     for a criteria query, a string determined by the persistence
+ *     provider, and
+ * <li>for {@code find()} or {@code get()}, the key is the entity
+ *     name, followed by {@code #} and the name of the named entity
+ *     graph passed to the method, if any.
+ * </ul>
+ * {@snippet :
+ * for (var advice : emf.getFetchAdvice()) {
+ *     log.info(advice.getOperation() + " -> "
+ *              + advice.getLazyInitializationCounts());
+ * }
+ * }
+ *
+ * @param <T> the type of the root entity of the suggested graph
+ *
+ * @see FetchProfilingMode
+ * @see EntityManagerFactory#getFetchAdvice()
+ *
+ * @since 4.0
+ */
+public interface FetchAdvice<T> {
+
+    /**
+     * The key identifying the profiled operation.
+     * @return the key of the operation
+     */
+    @Nonnull
+    String getOperation();
+
+    /**
+     * The number of profiled executions of the operation.
+     * @return the number of executions
+     */
+    long getExecutionCount();
+
+    /**
+     * A map from the path of each association or collection
+     * initialized after an execution of the operation, with
+     * attribute names separated by {@code .}, to the number of
+     * executions after which it was initialized.
+     * @return an unmodifiable map from path to count
+     */
+    @Nonnull
+    Map<String, Long> getLazyInitializationCounts();
+
+    /**
+     * An immutable entity graph containing every association or
+     * collection initialized after at least the fraction of the
+     * executions of the operation specified by
+     * {@value Persistence.FetchProperties#FETCH_PROFILING_THRESHOLD},
+     * up to the depth specified by
+     * {@value Persistence.FetchProperties#FETCH_PROFILING_MAX_DEPTH}.
+     * @return the suggested entity graph
+     */
+    @Nonnull
+    EntityGraph<T> getSuggestedEntityGraph();
+
+    /**
+     * Whether the {@linkplain #getSuggestedEntityGraph suggested
+     * entity graph} is currently applied to executions of the
+     * operation, that is, whether the {@link FetchProfilingMode}
+     * is {@link FetchProfilingMode#APPLY APPLY}, and the suggested
+     * graph is not empty.
+     * @return {@code true} if the suggested graph is applied
+     */
+    boolean isApplied();
+}
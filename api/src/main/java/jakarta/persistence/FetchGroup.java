@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package jakarta.persistence;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Assigns a lazily fetched {@linkplain Basic basic} field or
+ * property of an entity to a named <em>fetch group</em>. When the
+ * value of any attribute belonging to a fetch group is accessed,
+ * and the attribute has not yet been loaded, the persistence
+ * provider loads every unloaded attribute belonging to the group
+ * in a single request to the database.
+ * {@snippet :
+ * @Entity
+ * class Document {
+ *     @Id long id;
+ *     String title;
+ *
+ *     @FetchGroup("content")
+ *     @Basic(fetch = LAZY)
+ *     String body;
+ *
+ *     @FetchGroup("content")
+ *     @Basic(fetch = LAZY)
+ *     String metadataJson;
+ * }
+ * }
+ * <p>
+ * The annotated attribute must be a basic attribute for which
+ * {@link FetchType#LAZY} is specified. Fetch group names are
+ * scoped to the entity class and its subclasses. An attribute
+ * belongs to at most one fetch group.
+ * <p>
+ * An entity graph may include or exclude every attribute of a
+ * fetch group by calling {@link Graph#addFetchGroup(String)} or
+ * {@link Graph#removeFetchGroup(String)}.
+ * <p>
+ * Since lazy fetching of basic attributes is a hint, a provider
+ * which does not support lazy fetching of basic attributes ignores
+ * this annotation. A provider which supports lazy fetching of basic
+ * attributes must respect fetch groups.
+ *
+ * @see Basic#fetch()
+ * @see Graph#addFetchGroup(String)
+ * @see Graph#removeFetchGroup(String)
+ *
+ * @since 4.0
+ */
+@Target({METHOD, FIELD})
+@Retention(RUNTIME)
+public @interface FetchGroup {
+    /**
+     * The name of the fetch group.
+     */
+    String value();
+}
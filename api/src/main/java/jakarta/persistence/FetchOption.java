@@ -20,7 +20,8 @@ package jakarta.persistence;
  * {@linkplain AttributeNode attribute node} belonging
  * to an {@linkplain EntityGraph entity graph} is fetched.
  * Built-in options control {@linkplain CacheRetrieveMode
- * cache interaction} and {@linkplain BatchFetch batching}.
+ * cache interaction}, {@linkplain BatchFetch batching}, and
+ * {@linkplain SubselectFetch subselect fetching}.
  * <p>
  * Typical options are specific to a given persistence
  * provider and are often hints. A provider must ignore
@@ -32,6 +33,8 @@ package jakarta.persistence;
  * @see CacheRetrieveMode
  * @see CacheStoreMode
  * @see BatchFetch
+ * @see SubselectFetch
+ * @see SplitFetch
  * @see FetchType
  *
  * @since 4.0
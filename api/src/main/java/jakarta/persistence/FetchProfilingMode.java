@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package jakarta.persistence;
+
+/**
+ * Enumerates modes of fetch profiling, where the persistence
+ * provider observes which lazy associations and collections are
+ * actually initialized after each operation retrieving entities,
+ * and derives a suggested {@linkplain EntityGraph entity graph}
+ * for the operation.
+ * <p>
+ * The fetch profiling mode may be specified by the property
+ * {@value Persistence.FetchProperties#FETCH_PROFILING_MODE}.
+ *
+ * @see FetchAdvice
+ * @see EntityManagerFactory#getFetchAdvice()
+ *
+ * @since 4.0
+ */
+public enum FetchProfilingMode {
+
+    /**
+     * Fetch profiling is disabled.
+     * <p>
+     * This is the default mode.
+     */
+    NONE,
+
+    /**
+     * The persistence provider records the associations and
+     * collections initialized after each profiled operation,
+     * and reports the resulting {@linkplain FetchAdvice advice}
+     * via {@link EntityManagerFactory#getFetchAdvice()}, but
+     * does not alter the data fetched by any operation.
+     */
+    RECORD,
+
+    /**
+     * The persistence provider records initialized associations
+     * and collections as for {@link #RECORD}, and, in addition,
+     * applies the {@linkplain FetchAdvice#getSuggestedEntityGraph
+     * suggested entity graph} as a load graph to subsequent
+     * executions of each profiled operation for which no entity
+     * graph was explicitly specified, within the limits specified
+     * by {@value Persistence.FetchProperties#FETCH_PROFILING_THRESHOLD}
+     * and {@value Persistence.FetchProperties#FETCH_PROFILING_MAX_DEPTH}.
+     */
+    APPLY
+}
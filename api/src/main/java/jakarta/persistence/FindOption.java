@@ -33,6 +33,8 @@ import java.util.List;
  * @see CacheRetrieveMode
  * @see CacheStoreMode
  * @see BatchFetch
+ * @see LoadScope
+ * @see ParallelFetch
  * @see Timeout
  *
  * @see EntityHandler#find(Class, Object, FindOption...)
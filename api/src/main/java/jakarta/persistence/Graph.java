@@ -287,6 +287,42 @@ public interface Graph<T> {
      */
     void addAttributeNodes(@Nonnull Attribute<? super T, ?>... attribute);
 
+    /**
+     * Add an attribute node for every attribute of the graphed type
+     * belonging to the {@linkplain FetchGroup fetch group} with the
+     * given name, cancelling the effect of any prior
+     * {@linkplain #removeAttributeNode removals}. This operation is
+     * equivalent to calling {@link #addAttributeNodes(String...)}
+     * with the names of the attributes belonging to the group.
+     *
+     * @param groupName the name of a fetch group of the managed type
+     * @throws IllegalArgumentException if there is no fetch group
+     *         with the given name
+     * @throws IllegalStateException if the EntityGraph has been
+     *         statically defined
+     *
+     * @since 4.0
+     */
+    void addFetchGroup(@Nonnull String groupName);
+
+    /**
+     * Remove the attribute node for every attribute of the graphed
+     * type belonging to the {@linkplain FetchGroup fetch group} with
+     * the given name, cancelling the effect of any prior
+     * {@linkplain #addAttributeNode additions}. This operation is
+     * equivalent to calling {@link #removeAttributeNode(String)} with
+     * the name of each attribute belonging to the group.
+     *
+     * @param groupName the name of a fetch group of the managed type
+     * @throws IllegalArgumentException if there is no fetch group
+     *         with the given name
+     * @throws IllegalStateException if the EntityGraph has been
+     *         statically defined
+     *
+     * @since 4.0
+     */
+    void removeFetchGroup(@Nonnull String groupName);
+
     /**
      * Add a node to the graph representing a managed type. This
      * allows for construction of multi-node entity graphs that
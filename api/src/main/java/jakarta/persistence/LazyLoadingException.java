@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package jakarta.persistence;
+
+/**
+ * Thrown by the persistence provider when an unplanned lazy
+ * initialization of an association or collection is not permitted
+ * by the {@linkplain LazyLoadingMode lazy loading mode} of the
+ * entity manager.
+ *
+ * <p> This exception type is considered recoverable. When this
+ * exception type is thrown, the current transaction is not
+ * automatically marked for rollback.
+ *
+ * @see LazyLoadingMode#FAIL
+ * @see LazyLoadingMode#STRICT
+ *
+ * @since 4.0
+ */
+public class LazyLoadingException extends PersistenceException {
+
+    /** The role of the association which was not initialized */
+    private final String role;
+
+    /**
+     * Constructs a new {@code LazyLoadingException} exception
+     * with the specified detail message.
+     * @param   message   the detail message.
+     */
+    public LazyLoadingException(String message) {
+        super(message);
+        this.role = null;
+    }
+
+    /**
+     * Constructs a new {@code LazyLoadingException} exception
+     * with the specified detail message and association role.
+     * @param   message   the detail message.
+     * @param   role      the role of the association, that is,
+     *                    the entity name and attribute name,
+     *                    separated by a period.
+     */
+    public LazyLoadingException(String message, String role) {
+        super(message);
+        this.role = role;
+    }
+
+    /**
+     * Returns the role of the association or collection whose
+     * lazy initialization was not permitted, that is, the name of
+     * the entity which owns the association, followed by a period,
+     * followed by the name of the attribute.
+     * @return the association role, or null if not known
+     */
+    public String getRole() {
+        return role;
+    }
+}
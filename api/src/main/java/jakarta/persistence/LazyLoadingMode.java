@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package jakarta.persistence;
+
+/**
+ * Enumerates the policies applied by an {@link EntityManager} to
+ * lazy initialization of associations and collections of entities
+ * associated with its persistence context, for the purpose of
+ * detecting the "N+1 selects" problem, where a loop over a list of
+ * entities triggers the initialization of an association of each
+ * entity, one at a time, via a separate SQL statement.
+ * <p>
+ * A lazy initialization is <em>unplanned</em> if it occurs as a
+ * side effect of access to an attribute of a managed entity, and
+ * was not explicitly requested by the program via
+ * {@link PersistenceUnitUtil#load} or
+ * {@link PersistenceUnitUtil#loadAll}. An initialization of an
+ * association which fetches the same association for a batch of
+ * owning entities, as a result of {@linkplain BatchFetch batch
+ * fetching} or {@linkplain SubselectFetch subselect fetching}, is
+ * counted as a single lazy initialization.
+ * <p>
+ * The lazy loading mode may be specified when the entity manager
+ * is created or via {@link EntityManager#addOption}. The default
+ * mode may be specified by the property
+ * {@value Persistence.FetchProperties#LAZY_LOADING_MODE}. The
+ * threshold applied by {@link #WARN} and {@link #FAIL} may be
+ * specified by the property
+ * {@value Persistence.FetchProperties#LAZY_LOADING_THRESHOLD}.
+ *
+ * @see LoadStatistics
+ * @see LazyLoadingException
+ *
+ * @since 4.0
+ */
+public enum LazyLoadingMode implements EntityManager.Option {
+
+    /**
+     * Unplanned lazy initialization is always permitted.
+     * <p>
+     * This is the default mode.
+     */
+    ALLOW,
+
+    /**
+     * Unplanned lazy initialization is permitted, but the
+     * persistence provider logs a warning when the same
+     * association or collection is initialized one by one more
+     * than the configured threshold number of times within the
+     * persistence context.
+     */
+    WARN,
+
+    /**
+     * Unplanned lazy initialization is permitted until the same
+     * association or collection has been initialized one by one
+     * the configured threshold number of times within the
+     * persistence context. A further unplanned initialization of
+     * the association or collection results in a
+     * {@link LazyLoadingException}.
+     */
+    FAIL,
+
+    /**
+     * Every unplanned lazy initialization results in a
+     * {@link LazyLoadingException}. This mode is intended for use
+     * in tests which verify that every operation fetches all the
+     * data it subsequently uses.
+     */
+    STRICT
+}
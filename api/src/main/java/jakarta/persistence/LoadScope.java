@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package jakarta.persistence;
+
+/**
+ * Specifies whether an {@linkplain EntityGraph entity graph} passed
+ * to an operation which retrieves entities also restricts the basic
+ * attributes selected from the database.
+ * <ul>
+ * <li>{@link #FULL} indicates that the entity graph controls only
+ *     the associations fetched, and that every basic attribute of
+ *     a retrieved entity is loaded according to its fetching
+ *     policy.
+ * <li>{@link #GRAPH} indicates that only the attributes belonging
+ *     to the entity graph are selected, and that the retrieved
+ *     entities are partially loaded, read-only instances.
+ * </ul>
+ * <p>
+ * This option has no effect when no entity graph is specified.
+ * {@snippet :
+ * var summary = entityManager.parseEntityGraph(Book.class, "title, isbn");
+ * List<Book> books =
+ *         entityManager.createQuery("from Book where published", summary)
+ *                 .addOption(LoadScope.GRAPH)
+ *                 .getResultList();
+ * }
+ *
+ * @see EntityHandler#find(EntityGraph, Object, FindOption...)
+ * @see EntityHandler#createQuery(String, EntityGraph)
+ * @see StatementOrTypedQuery#withEntityGraph(EntityGraph)
+ * @see AttributeNotLoadedException
+ *
+ * @since 4.0
+ */
+public enum LoadScope implements FindOption, TypedQuery.Option {
+
+    /**
+     * Every basic attribute of a retrieved entity is loaded
+     * according to its fetching policy, regardless of whether it
+     * belongs to the entity graph.
+     * <p>
+     * This is the default.
+     */
+    FULL,
+
+    /**
+     * Only the identifier, the version, and the attributes which
+     * belong to the entity graph are selected from the database,
+     * and every other attribute, including every basic attribute,
+     * is unloaded. Each retrieved entity is a partially loaded,
+     * read-only instance which:
+     * <ul>
+     * <li>is not associated with any persistence context,
+     * <li>throws {@link AttributeNotLoadedException} when an
+     *     unloaded attribute is accessed, and
+     * <li>may not be passed to {@link EntityManager#merge merge()},
+     *     {@link EntityManager#persist persist()}, or
+     *     {@link EntityManager#remove remove()}, which throw
+     *     {@link IllegalArgumentException}.
+     * </ul>
+     * <p>
+     * For such an instance, {@link PersistenceUnitUtil#isLoaded(Object,String)}
+     * returns {@code false} for every attribute which does not belong
+     * to the entity graph.
+     */
+    GRAPH
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package jakarta.persistence;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.Map;
+
+/**
+ * Counts the lazy initializations and SQL statements executed on
+ * behalf of an {@link EntityManager} since it was created, or since
+ * the counters were last {@linkplain #reset reset}. Obtained by
+ * calling {@link EntityManager#getLoadStatistics()}.
+ *
+ * <p>An association or collection is identified by its <em>role</em>,
+ * that is, the name of the entity which owns the association,
+ * followed by a period, followed by the name of the attribute.
+ *
+ * <p>A test might verify that a unit of work executes no more than
+ * a certain number of statements:
+ * {@snippet :
+ * LoadStatistics statistics = entityManager.getLoadStatistics();
+ * statistics.reset();
+ * List<Book> books = bookService.findBooksWithAuthors(isbns);
+ * assertEquals(1, statistics.getStatementCount());
+ * }
+ *
+ * @see LazyLoadingMode
+ *
+ * @since 4.0
+ */
+public interface LoadStatistics {
+
+    /**
+     * The number of lazy initializations of associations and
+     * collections of entities associated with the persistence
+     * context. An initialization which fetches the same
+     * association for a batch of owning entities is counted once.
+     * @return the total number of lazy initializations
+     */
+    long getLazyInitializationCount();
+
+    /**
+     * The number of lazy initializations of each association and
+     * collection, keyed by association role.
+     * @return an unmodifiable map from association role to the
+     *         number of lazy initializations of the association
+     */
+    @Nonnull
+    Map<String, Long> getLazyInitializationCounts();
+
+    /**
+     * The number of SQL statements executed by the persistence
+     * provider on behalf of the entity manager, including queries,
+     * statements executed to initialize lazy associations, and
+     * statements executed when changes are flushed.
+     * @return the total number of statements executed
+     */
+    long getStatementCount();
+
+    /**
+     * Reset every counter to zero.
+     */
+    void reset();
+}
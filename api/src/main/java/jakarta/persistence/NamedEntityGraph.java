@@ -243,4 +243,35 @@ public @interface NamedEntityGraph {
      * @see EntityGraph#addTreatedSubgraph(Class)
      */
     NamedSubgraph[] subclassSubgraphs() default {};
+
+    /**
+     * (Optional) Whether the persistence provider may store fully
+     * assembled snapshots of graphs fetched using this named entity
+     * graph in the second-level cache.
+     * <p>
+     * A graph snapshot holds the state of the root entity and of
+     * every entity and collection belonging to the graph, and is
+     * keyed by the primary key of the root entity and the name of
+     * the entity graph. When the root entity is retrieved by primary
+     * key using this entity graph, the persistence provider may
+     * construct the whole graph from a single cached snapshot instead
+     * of assembling it from individual cache entries. A snapshot is
+     * never modified; entity instances returned to the application
+     * are always constructed from the state held in the snapshot.
+     * <p>
+     * The persistence provider must invalidate every snapshot which
+     * contains the state of an entity or collection when a change to
+     * that entity or collection is flushed to the database, or when
+     * the entity or collection is evicted from the second-level cache.
+     * <p>
+     * This member is ignored if the root entity of the graph is not
+     * eligible for storage in the second-level cache. Graph snapshot
+     * caching is intended for aggregates which are read much more
+     * often than they are modified.
+     *
+     * @see Cache#evict(EntityGraph)
+     *
+     * @since 4.0
+     */
+    boolean cacheable() default false;
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package jakarta.persistence;
+
+/**
+ * Requests that independent branches of an entity graph be fetched
+ * concurrently. When an operation which retrieves entities using an
+ * {@linkplain EntityGraph entity graph} requires additional requests
+ * to the database to fetch subgraphs which do not depend on each
+ * other, the persistence provider may execute these requests in
+ * parallel, each on a separate pooled connection, and assemble the
+ * results into a single graph of entity instances before the
+ * operation returns.
+ * <p>
+ * This option only applies to operations which return detached or
+ * read-only entity instances, that is, operations executed by an
+ * {@link EntityAgent}, which return detached instances, and
+ * operations executed with {@link LoadScope#GRAPH}, which return
+ * read-only instances. Each concurrent request is executed
+ * outside the current transaction, if any, in its own transaction,
+ * and observes the state of the database at a different moment.
+ * Therefore, under any isolation level, the fetched branches might
+ * reflect different sets of changes committed concurrently by other
+ * transactions, and might be mutually inconsistent. An application
+ * which requires a consistent graph must not specify this option.
+ * The persistence provider must ignore this option if:
+ * <ul>
+ * <li>the current transaction has pending or flushed modifications,
+ * <li>a {@linkplain LockModeType pessimistic lock mode} is
+ *     specified for the operation, or
+ * <li>the operation is executed by an entity manager and
+ *     {@link LoadScope#GRAPH} is not specified.
+ * </ul>
+ * {@snippet :
+ * var graph = agent.parseEntityGraph(Order.class,
+ *         "customer, lines(product), payments, shipments");
+ * Order order = agent.get(graph, orderId, new ParallelFetch(3));
+ * }
+ * <p>
+ * This option is always a hint, and might be ignored by the
+ * persistence provider.
+ *
+ * @param maxConnections The maximum number of connections used
+ *                       concurrently by the operation
+ *
+ * @see LoadScope#GRAPH
+ * @see SplitFetch
+ *
+ * @since 4.0
+ */
+public record ParallelFetch(int maxConnections)
+        implements FindOption, TypedQuery.Option {
+
+    /**
+     * Specify the maximum number of connections.
+     * @throws IllegalArgumentException if the maximum number of
+     *         connections is not positive
+     */
+    public ParallelFetch {
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException("maxConnections must be positive");
+        }
+    }
+}
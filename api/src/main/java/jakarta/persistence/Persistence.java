@@ -345,6 +345,41 @@ public final class Persistence {
          * should use {@link PersistenceConfiguration#sharedCacheMode(SharedCacheMode)}.
          */
         String CACHE_MODE = "jakarta.persistence.sharedCache.mode";
+
+        /**
+         * String specifying a {@link CacheStorageMode}.
+         * <p>
+         * If not specified, the storage mode is
+         * {@link CacheStorageMode#UNSPECIFIED}.
+         *
+         * @since 4.0
+         */
+        String CACHE_STORAGE_MODE = "jakarta.persistence.sharedCache.storageMode";
+
+        /**
+         * Maximum size, in bytes, of the memory used to store
+         * the state held in the second-level cache when the
+         * {@linkplain #CACHE_STORAGE_MODE storage mode} is
+         * {@link CacheStorageMode#SERIALIZED} or
+         * {@link CacheStorageMode#OFF_HEAP}.
+         * <p>
+         * When the limit is reached, the persistence provider
+         * evicts entries from the cache according to a policy
+         * of its choosing. This setting is a hint.
+         *
+         * @since 4.0
+         */
+        String CACHE_STORAGE_SIZE = "jakarta.persistence.sharedCache.storageSize";
+
+        /**
+         * An instance of {@link jakarta.persistence.spi.CacheInvalidationTransport},
+         * or the fully-qualified name of a class implementing it, used
+         * to broadcast invalidations of data held in the second-level
+         * cache to the other nodes of a cluster.
+         *
+         * @since 4.0
+         */
+        String CACHE_INVALIDATION_TRANSPORT = "jakarta.persistence.sharedCache.invalidationTransport";
     }
 
     /**
@@ -406,6 +441,92 @@ public final class Persistence {
          * Default {@linkplain java.sql.Statement#setQueryTimeout query timeout} hint.
          */
         String QUERY_TIMEOUT = "jakarta.persistence.query.timeout";
+
+        /**
+         * String specifying the default {@link CollectionParameterBinding}
+         * for collection-valued arguments of {@code IN} predicates.
+         * @since 4.0
+         */
+        String COLLECTION_PARAMETER_BINDING = "jakarta.persistence.query.collectionParameterBinding";
+    }
+
+    /**
+     * Properties used to control the fetching of associations.
+     * @since 4.0
+     */
+    public interface FetchProperties {
+        /**
+         * Default {@linkplain BatchFetch batch size} for fetching of
+         * lazy associations and collections, applied when no batch
+         * size is specified by {@link Fetch#batchSize} or by an
+         * {@linkplain AttributeNode#addOption option} of an entity
+         * graph. The value {@code adaptive} or {@value BatchFetch#ADAPTIVE}
+         * requests adaptive batch fetching.
+         * <p>This setting is a hint.
+         * @since 4.0
+         */
+        String FETCH_BATCH_SIZE = "jakarta.persistence.fetch.batchSize";
+
+        /**
+         * Maximum size of a batch determined by the persistence
+         * provider for {@linkplain BatchFetch#adaptive adaptive
+         * batch fetching}. The effective maximum is never greater
+         * than the number of parameters permitted in a single SQL
+         * statement by the database.
+         * <p>This setting is a hint.
+         * @since 4.0
+         */
+        String FETCH_BATCH_SIZE_LIMIT = "jakarta.persistence.fetch.batchSizeLimit";
+
+        /**
+         * String specifying a {@link FetchProfilingMode}.
+         * <p>
+         * If not specified, fetch profiling is disabled.
+         * @since 4.0
+         */
+        String FETCH_PROFILING_MODE = "jakarta.persistence.fetch.profiling";
+
+        /**
+         * The minimum fraction, between 0 and 1, of the executions
+         * of a profiled operation after which an association or
+         * collection must be initialized for it to be included in
+         * the {@linkplain FetchAdvice#getSuggestedEntityGraph
+         * suggested entity graph} for the operation. The default
+         * value is determined by the persistence provider.
+         * @since 4.0
+         */
+        String FETCH_PROFILING_THRESHOLD = "jakarta.persistence.fetch.profiling.threshold";
+
+        /**
+         * The maximum depth of a {@linkplain
+         * FetchAdvice#getSuggestedEntityGraph suggested entity graph},
+         * limiting the number of joins which may be added to an
+         * operation when {@link FetchProfilingMode#APPLY} is set.
+         * The default value is determined by the persistence provider.
+         * @since 4.0
+         */
+        String FETCH_PROFILING_MAX_DEPTH = "jakarta.persistence.fetch.profiling.maxDepth";
+
+        /**
+         * String specifying the default {@link LazyLoadingMode}
+         * of entity managers created by the factory.
+         * <p>
+         * If not specified, unplanned lazy initialization is
+         * always permitted.
+         * @since 4.0
+         */
+        String LAZY_LOADING_MODE = "jakarta.persistence.fetch.lazyLoading";
+
+        /**
+         * The number of times the same association or collection
+         * may be initialized one by one within a persistence context
+         * before {@link LazyLoadingMode#WARN} logs a warning or
+         * {@link LazyLoadingMode#FAIL} throws a
+         * {@link LazyLoadingException}. The default value is
+         * determined by the persistence provider.
+         * @since 4.0
+         */
+        String LAZY_LOADING_THRESHOLD = "jakarta.persistence.fetch.lazyLoading.threshold";
     }
 
     /**
@@ -21,6 +21,8 @@ import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import jakarta.persistence.metamodel.Attribute;
 
+import java.util.Collection;
+
 /**
  * Utility interface between the application and the persistence
  * provider managing the persistence unit.
@@ -124,6 +126,76 @@ public interface PersistenceUnitUtil extends PersistenceUtil {
      */
     void load(@Nonnull Object entity);
 
+    /**
+     * Load the persistent value of a given persistent attribute
+     * of each of the given entities belonging to the persistence
+     * unit and to an open persistence context.
+     * The persistence provider should load the attribute for every
+     * given entity for which it is not already loaded using as few
+     * requests to the database as possible, for example, by fetching
+     * the attribute for many entities in a single query.
+     * After this method returns, {@link #isLoaded(Object,Attribute)}
+     * must return true with each given entity instance and the
+     * given attribute.
+     * @param entities  entity instances to be loaded
+     * @param attribute  the attribute to be loaded
+     * @param <E> the entity type
+     * @throws IllegalArgumentException if one of the given objects
+     * is not an instance of an entity class belonging to the
+     * persistence unit
+     * @throws PersistenceException if one of the entities is not
+     * associated with an open persistence context or cannot be
+     * loaded from the database
+     * @since 4.0
+     */
+    <E> void loadAll(@Nonnull Collection<? extends E> entities,
+                     @Nonnull Attribute<? super E, ?> attribute);
+
+    /**
+     * Load every attribute and association specified by the given
+     * {@linkplain EntityGraph entity graph} for each of the given
+     * entities belonging to the persistence unit and to an open
+     * persistence context.
+     * The persistence provider should load the state for every given
+     * entity for which it is not already loaded using as few requests
+     * to the database as possible, typically one query for each node
+     * of the graph, regardless of the number of entities.
+     * After this method returns, {@link #isLoaded(Object,Attribute)}
+     * must return true with each given entity instance and each
+     * attribute represented by a node of the graph, and with each
+     * entity reachable through the graph and the attributes of the
+     * corresponding subgraph.
+     * @param entities  entity instances to be loaded
+     * @param graph  an entity graph whose root entity type is a
+     *               supertype of the given entities
+     * @param <E> the entity type
+     * @throws IllegalArgumentException if one of the given objects
+     * is not an instance of the root entity class of the graph
+     * @throws PersistenceException if one of the entities is not
+     * associated with an open persistence context or cannot be
+     * loaded from the database
+     * @since 4.0
+     */
+    <E> void loadAll(@Nonnull Collection<? extends E> entities,
+                     @Nonnull EntityGraph<? super E> graph);
+
+    /**
+     * Load the persistent state of each of the given entities
+     * belonging to the persistence unit and to an open persistence
+     * context, using as few requests to the database as possible.
+     * After this method returns, {@link #isLoaded(Object)} must
+     * return true with each given entity instance.
+     * @param entities  entity instances to be loaded
+     * @throws IllegalArgumentException if one of the given objects
+     * is not an instance of an entity class belonging to the
+     * persistence unit
+     * @throws PersistenceException if one of the entities is not
+     * associated with an open persistence context or cannot be
+     * loaded from the database
+     * @since 4.0
+     */
+    void loadAll(@Nonnull Collection<?> entities);
+
     /**
      * Return true if the given entity belonging to the persistence
      * unit and to an open persistence context is an instance of the
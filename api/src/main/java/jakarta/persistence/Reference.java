@@ -27,7 +27,9 @@ import java.util.Map;
  * or using {@link jakarta.persistence.query.JakartaQuery} or
  * {@link jakarta.persistence.query.NativeQuery}. An
  * instance of {@code Reference} is usually obtained from the
- * static metamodel. This interface declares operations common
+ * static metamodel, or by {@linkplain
+ * EntityManagerFactory#compileQuery compiling} a criteria
+ * query. This interface declares operations common
  * to {@link StatementReference} and {@link TypedQueryReference}.
  *
  * @since 4.0
@@ -40,7 +42,9 @@ public sealed interface Reference
      * {@link NamedQuery#name} or {@link NamedNativeQuery#name},
      * or as inferred from the name of the method annotated
      * {@link jakarta.persistence.query.JakartaQuery} or
-     * {@link jakarta.persistence.query.NativeQuery}.
+     * {@link jakarta.persistence.query.NativeQuery}, or
+     * {@code null} if this is a reference to a compiled criteria
+     * query or statement.
      */
     @Nullable
     String getName();
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package jakarta.persistence;
+
+/**
+ * Specifies split-query fetching for collection-valued attributes.
+ * Instead of joining the table mapped by a collection in the query
+ * which retrieves the owning entities, the persistence provider
+ * executes the original query once, and then initializes the
+ * collection for every owning entity it returned by executing a
+ * separate query, restricted by the identifiers of the owning
+ * entities.
+ * <p>
+ * When two or more collections are fetched by a single query, a
+ * join of every collection table produces a Cartesian product,
+ * and the number of rows returned by the database is the product
+ * of the sizes of the collections. With split-query fetching, the
+ * number of rows is the sum of the sizes of the collections.
+ * Furthermore, {@linkplain TypedQuery#setMaxResults limits} and
+ * {@linkplain TypedQuery#setFirstResult offsets} may be applied
+ * directly to the original query.
+ * <p>
+ * This option may be specified for a given attribute node of an
+ * entity graph:
+ * {@snippet :
+ * var bookGraph = Book_.class_.createEntityGraph();
+ * bookGraph.addAttributeNode(Book_.authors)
+ *          .addOption(new SplitFetch());
+ * bookGraph.addAttributeNode(Book_.chapters)
+ *          .addOption(new SplitFetch());
+ * }
+ * Alternatively, it may be specified as an option of a query, in
+ * which case it applies to every collection fetched by the query,
+ * whether via a {@linkplain jakarta.persistence.criteria.From#fetch
+ * fetch join} or via an entity graph:
+ * {@snippet :
+ * List<Book> books =
+ *         em.createQuery("from Book b join fetch b.authors join fetch b.chapters",
+ *                        Book.class)
+ *           .addOption(new SplitFetch())
+ *           .getResultList();
+ * }
+ * <p>
+ * This option is always a hint, and might be ignored by the
+ * persistence provider. It has no effect on an attribute which is
+ * not collection-valued. Single-valued associations fetched by the
+ * query continue to be fetched by the original query.
+ *
+ * @see SubselectFetch
+ * @see BatchFetch
+ *
+ * @since 4.0
+ */
+public record SplitFetch() implements FetchOption, TypedQuery.Option {
+}
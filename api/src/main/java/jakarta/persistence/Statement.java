@@ -21,12 +21,14 @@ import jakarta.persistence.metamodel.Type;
 
 import java.util.Calendar;
 import java.util.Date;
+import java.util.List;
 import java.util.Set;
 
 /**
  * Interface used to control the execution of executable statements.
- * In the Jakarta Persistence Query Language only {@code UPDATE} and
- * {@code DELETE} statements are executable statements. On the other
+ * In the Jakarta Persistence Query Language only {@code UPDATE},
+ * {@code DELETE}, and {@code INSERT} statements are executable
+ * statements. On the other
  * hand, a native SQL statement is considered executable if it returns
  * a row count instead of a result set.
  *
@@ -52,8 +54,8 @@ import java.util.Set;
  */
 public interface Statement extends Query {
     /**
-     * Execute an {@code UPDATE} or {@code DELETE} statement or a
-     * native SQL statement that returns a row count.
+     * Execute an {@code UPDATE}, {@code DELETE}, or {@code INSERT}
+     * statement or a native SQL statement that returns a row count.
      * <p>
      * After execution of a bulk update or delete operation, the
      * persistence provider is not required to resynchronize state
@@ -67,7 +69,7 @@ public interface Statement extends Query {
      * update or delete operation is visible to the processing of
      * the operation.
      *
-     * @return the number of entities updated or deleted, or the
+     * @return the number of entities updated, deleted, or inserted, or the
      *         row count of the native SQL statement
      * @throws IllegalStateException if called for a Jakarta
      *         Persistence Query Language SELECT statement or for
@@ -87,6 +89,87 @@ public interface Statement extends Query {
      */
     int execute();
 
+    /**
+     * Execute an {@code UPDATE}, {@code DELETE}, or {@code INSERT}
+     * statement, returning a result for each affected entity.
+     * <ul>
+     * <li>If the statement has a {@code RETURNING} clause, or if
+     *     {@linkplain jakarta.persistence.criteria.CriteriaStatement#returning
+     *     returning items} were specified for a criteria statement,
+     *     each result is packaged from the returning items according
+     *     to the given result type, following the rules for the
+     *     result class of a query specified by
+     *     {@link EntityHandler#createQuery(String, Class)}.
+     * <li>Otherwise, each result is the identifier of an affected
+     *     entity, and the given result type must be the type of the
+     *     identifier.
+     * </ul>
+     * <p>
+     * For an {@code UPDATE} or {@code INSERT} statement, the returned
+     * values reflect the state of each affected entity after the
+     * statement is executed. For a {@code DELETE} statement, they
+     * reflect the state of each entity before it was deleted.
+     * <p>
+     * The statement is executed via a single request to the database
+     * using {@code RETURNING}, {@code OUTPUT}, or an equivalent SQL
+     * construct if supported by the database. Otherwise, the provider
+     * must emulate this construct within the current transaction, in
+     * such a way that the results reflect exactly the rows affected
+     * by the statement, even in the presence of concurrent
+     * transactions:
+     * <ul>
+     * <li>for an {@code UPDATE} statement, by obtaining a pessimistic
+     *     write lock on the rows satisfying the restriction of the
+     *     statement, executing the statement restricted to the locked
+     *     rows, and then selecting the required values from the rows
+     *     with the identifiers of the locked rows, or
+     * <li>for a {@code DELETE} statement, by obtaining a pessimistic
+     *     write lock on the rows satisfying the restriction of the
+     *     statement, selecting the required values from the locked
+     *     rows, and then executing the statement restricted to the
+     *     locked rows.
+     * </ul>
+     * There is no portable emulation for an {@code INSERT} statement,
+     * and so, if the database does not support such a construct for
+     * {@code INSERT}, the provider may throw
+     * {@link PersistenceException}.
+     * {@snippet :
+     * List<String> isbns =
+     *         em.createStatement("update Book set outOfPrint = true"
+     *                            + " where publicationDate < :cutoff"
+     *                            + " returning isbn")
+     *           .setParameter("cutoff", cutoffDate)
+     *           .executeReturning(String.class);
+     * }
+     *
+     * @param resultType the type of each result
+     * @param <R> the result type
+     * @return a list with one result for each affected entity
+     * @throws IllegalArgumentException if the returning items cannot
+     *         be packaged as instances of the given result type
+     * @throws IllegalStateException if called for a native SQL
+     *         statement
+     * @throws TransactionRequiredException if there is
+     *         no transaction or the persistence context has not
+     *         been joined to the transaction
+     * @throws QueryTimeoutException if the statement execution
+     *         exceeds the query timeout value set and only
+     *         the statement is rolled back
+     * @throws PersistenceException if the query execution exceeds
+     *         the query timeout value set and the transaction
+     *         is rolled back
+     * @throws PersistenceException if the flush fails
+     * @throws PersistenceException if the statement is an
+     *         {@code INSERT} statement, and the database does not
+     *         support returning values from an {@code INSERT}
+     * @throws OptimisticLockException if an optimistic locking
+     *         conflict is detected during the flush
+     *
+     * @since 4.0
+     */
+    @Nonnull
+    <R> List<R> executeReturning(@Nonnull Class<R> resultType);
+
     /**
      * Set a query property or hint. Properties defined by this
      * specification must be observed by the persistence provider.
@@ -527,6 +610,7 @@ public interface Statement extends Query {
      * <p>This interface may be implemented by custom provider-specific
      * options which extend the options defined by the specification.
      *
+     * @see CollectionParameterBinding
      * @see QueryFlushMode
      * @see Timeout
      *
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package jakarta.persistence;
+
+/**
+ * Specifies subselect fetching for a collection-valued attribute.
+ * When a query or {@code findMultiple()} operation returns several
+ * owning entities, and the collection belonging to one of them is
+ * initialized, the persistence provider initializes the collection
+ * for every owning entity retrieved by the original operation by
+ * executing a single query which restricts the owning entities
+ * using a subquery derived from the restriction of the original
+ * operation.
+ * <p>
+ * Unlike {@linkplain BatchFetch batch fetching}, which requires
+ * one request to the database for each batch of owning entities,
+ * subselect fetching requires exactly one request, regardless of
+ * how many owning entities were retrieved. When both options are
+ * specified for the same attribute node, this option takes
+ * precedence.
+ * {@snippet :
+ * var bookGraph = Book_.class_.createEntityGraph();
+ * bookGraph.addAttributeNode(Book_.authors)
+ *          .addOption(new SubselectFetch());
+ * }
+ * <p>
+ * This option is always a hint, and might be ignored by the
+ * persistence provider. It has no effect on an attribute which is
+ * not collection-valued, nor when the original operation retrieved
+ * a single owning entity.
+ *
+ * @see Fetch#subselect()
+ * @see BatchFetch
+ * @see SplitFetch
+ *
+ * @since 4.0
+ */
+public record SubselectFetch() implements FetchOption {
+}
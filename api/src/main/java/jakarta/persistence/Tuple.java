@@ -47,8 +47,40 @@ import java.util.List;
  *     ...
  * }
  * }
+ * <p>
+ * Numeric elements may be extracted by position without boxing
+ * by calling {@link #getLong(int)}, {@link #getInt(int)}, or
+ * {@link #getDouble(int)}. These methods return {@code 0} when
+ * the value of the element is null, and {@link #isNull(int)}
+ * distinguishes a null value from zero. They never perform a
+ * narrowing conversion which loses information about the magnitude
+ * of an integral value, and instead throw
+ * {@link IllegalArgumentException}:
+ * {@snippet :
+ * var totals = builder.createTupleQuery();
+ * var order = totals.from(Order.class);
+ * totals.select(builder.tuple(order.get(Order_.customerId),
+ *                             builder.sum(order.get(Order_.total))))
+ *       .groupBy(order.get(Order_.customerId));
+ *
+ * agent.createQuery(totals).getResultStream().forEach(tuple -> {
+ *     long customerId = tuple.getLong(0);
+ *     double total = tuple.getDouble(1);
+ *     ...
+ * });
+ * }
+ * <p>
+ * Every tuple belonging to the result of a given query has the same
+ * elements, in the same order. A persistence provider is encouraged
+ * to share the {@linkplain #getElements elements} and the mapping of
+ * aliases to positions among all tuples of a query result, and to
+ * store the values of numeric elements in primitive form, so that
+ * the per-row cost of a tuple is little more than the storage of
+ * its values.
  *
  * @see TupleElement
+ * @see jakarta.persistence.criteria.CriteriaBuilder#tuple
+ * @see jakarta.persistence.sql.TupleMapping
  *
  * @since 2.0
  */
@@ -116,6 +148,84 @@ public interface Tuple {
      */
     Object get(int i);
 
+    /**
+     * Get the value of the numeric element at the specified
+     * position in the result tuple as a {@code long}. The
+     * first position is 0. The element must be of type
+     * {@code Long}, {@code Integer}, {@code Short}, {@code Byte},
+     * or {@link java.math.BigInteger}, and its value is converted
+     * to {@code long} without loss. A null value is returned as
+     * {@code 0}.
+     * @param i  position in result tuple
+     * @return value of the tuple element, or {@code 0} if the
+     *         value is null
+     * @throws IllegalArgumentException if i exceeds length of
+     *         result tuple, if the element is not of one of the
+     *         types listed above, or if its value does not fit in
+     *         a {@code long}
+     * @since 4.0
+     */
+    long getLong(int i);
+
+    /**
+     * Get the value of the numeric element at the specified
+     * position in the result tuple as an {@code int}. The
+     * first position is 0. The element must be of type
+     * {@code Integer}, {@code Short}, {@code Byte}, {@code Long},
+     * or {@link java.math.BigInteger}, and its value is converted
+     * to {@code int} without loss. A null value is returned as
+     * {@code 0}.
+     * @param i  position in result tuple
+     * @return value of the tuple element, or {@code 0} if the
+     *         value is null
+     * @throws IllegalArgumentException if i exceeds length of
+     *         result tuple, if the element is not of one of the
+     *         types listed above, or if its value does not fit in
+     *         an {@code int}
+     * @since 4.0
+     */
+    int getInt(int i);
+
+    /**
+     * Get the value of the numeric element at the specified
+     * position in the result tuple as a {@code double}. The
+     * first position is 0. The element must be a
+     * {@link Number}, and its value is converted as if by
+     * {@link Number#doubleValue()}, which may round the value
+     * of a {@code Long}, {@code BigInteger}, or {@code BigDecimal}.
+     * A null value is returned as {@code 0}.
+     * @param i  position in result tuple
+     * @return value of the tuple element, or {@code 0} if the
+     *         value is null
+     * @throws IllegalArgumentException if i exceeds length of
+     *         result tuple, or if the element is not a
+     *         {@code Number}
+     * @since 4.0
+     */
+    double getDouble(int i);
+
+    /**
+     * Determine if the value of the element at the specified
+     * position in the result tuple is null. The first position
+     * is 0. This method may be used to distinguish a null value
+     * from zero after calling {@link #getLong(int)},
+     * {@link #getInt(int)}, or {@link #getDouble(int)}.
+     * @param i  position in result tuple
+     * @return {@code true} if the value of the tuple element
+     *         is null
+     * @throws IllegalArgumentException if i exceeds length of
+     *         result tuple
+     * @since 4.0
+     */
+    boolean isNull(int i);
+
+    /**
+     * Return the number of elements of the result tuple.
+     * @return the number of tuple elements
+     * @since 4.0
+     */
+    int size();
+
     /**
      * Return the values of the result tuple elements as
      * an array.
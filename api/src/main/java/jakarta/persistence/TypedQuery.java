@@ -76,6 +76,10 @@ public interface TypedQuery<X> extends Query {
      * <p>The {@code getResultCount} method should not cause query
      * results to be fetched from the database.</p>
      *
+     * <p>If the query is a union, intersection, or difference of
+     * queries, the count is of the results of the set operation
+     * as a whole.</p>
+     *
      * @return the maximum number of results that could in principle
      *         be returned by the query if no offset or limit were
      *         applied
@@ -235,6 +239,9 @@ public interface TypedQuery<X> extends Query {
      * of results is returned. If the query returns results
      * with a well-defined order, the excluded results must be
      * those which would otherwise occur later in the list.
+     * If the query is a union, intersection, or difference of
+     * queries, the limit applies to the result of the set
+     * operation, and not to its operand queries.
      *
      * @param maxResult The maximum number of results
      * @return the same query instance
@@ -251,6 +258,9 @@ public interface TypedQuery<X> extends Query {
      * If the query returns results with a well-defined order,
      * the excluded results must be those which would otherwise
      * occur earlier in the list.
+     * If the query is a union, intersection, or difference of
+     * queries, the offset applies to the result of the set
+     * operation, and not to its operand queries.
      *
      * @param startPosition The position of the first result,
      *                      numbered from {@code 0}
@@ -886,9 +896,13 @@ public interface TypedQuery<X> extends Query {
      *
      * @see CacheRetrieveMode
      * @see CacheStoreMode
+     * @see CollectionParameterBinding
+     * @see LoadScope
      * @see LockModeType
+     * @see ParallelFetch
      * @see PessimisticLockScope
      * @see QueryFlushMode
+     * @see SplitFetch
      * @see Timeout
      *
      * @since 4.0
@@ -60,6 +60,54 @@ public interface AbstractQuery<T> extends CommonAbstractCriteria {
     @Nonnull
     <X> Root<X> from(@Nonnull EntityType<X> entity);
 
+    /**
+     * Create and add a query root whose source is the given
+     * {@linkplain CommonTableExpression common table expression},
+     * forming a cartesian product with any existing roots. The
+     * common table expression must be in scope, that is, this
+     * query, or the top-level query enclosing this subquery, must
+     * be:
+     * <ul>
+     * <li>the query which declares the common table expression,
+     * <li>the recursive query of a recursive common table expression,
+     *     returned by the function passed to {@link
+     *     CriteriaQuery#withRecursive withRecursive()}, when the given
+     *     common table expression is the one being declared, or
+     * <li>the defining query of a common table expression declared
+     *     by the same query after the given common table expression.
+     * </ul>
+     * @param cte  the common table expression
+     * @param <X> the type of the common table expression
+     * @return query root corresponding to the common table
+     *         expression
+     * @throws IllegalArgumentException if the common table
+     *         expression is not in scope in this query
+     * @since 4.0
+     */
+    @Nonnull
+    <X> DerivedRoot<X> from(@Nonnull CommonTableExpression<X> cte);
+
+    /**
+     * Create and add a query root whose source is the given
+     * {@linkplain Subquery subquery}, forming a cartesian product
+     * with any existing roots. The subquery must have been created
+     * by calling {@link #subquery} on this query, and may not be
+     * correlated with any root or join of this query. To join a
+     * subquery which is correlated with a root or join of this
+     * query, use {@link From#joinLateral(Subquery)}. Since a
+     * subquery selects a single item, the resulting root has the
+     * type of that item.
+     * @param subquery  the subquery
+     * @param <X> the type of the subquery
+     * @return query root corresponding to the subquery
+     * @throws IllegalArgumentException if the subquery was not
+     *         created by this query, or is correlated with a root
+     *         or join of this query
+     * @since 4.0
+     */
+    @Nonnull
+    <X> DerivedRoot<X> from(@Nonnull Subquery<X> subquery);
+
     /**
      * Modify the query to restrict the query results according
      * to the specified boolean expression.
@@ -196,6 +244,18 @@ public interface AbstractQuery<T> extends CommonAbstractCriteria {
     @Nonnull
     List<Root<?>> getRootList();
 
+    /**
+     * Return the {@linkplain DerivedRoot derived roots} belonging
+     * to this {@link CriteriaQuery} or {@link Subquery}, in the
+     * same order in which they were defined. Modifying the contents
+     * of the returned list does not affect the query.
+     * @return a list of derived roots, or an empty list if no
+     *         derived roots have been defined
+     * @since 4.0
+     */
+    @Nonnull
+    List<DerivedRoot<?>> getDerivedRoots();
+
     /**
      * Return the selection of the query, or null if no selection
      * has been set.
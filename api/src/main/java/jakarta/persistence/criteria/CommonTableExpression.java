@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package jakarta.persistence.criteria;
+
+import jakarta.annotation.Nonnull;
+
+/**
+ * A named query, declared by a {@link CriteriaQuery} via
+ * {@link CriteriaQuery#with with()} or {@link
+ * CriteriaQuery#withRecursive withRecursive()}, which may be
+ * used as a {@linkplain AbstractQuery#from(CommonTableExpression)
+ * root} of the query which declares it, of its own recursive query,
+ * of the defining query of a common table expression declared
+ * after it by the same query, or of any subquery of these queries.
+ * A common table expression is rendered in the
+ * {@code WITH} clause of the SQL query.
+ * <p>
+ * A recursive common table expression is the union of a base
+ * query with a recursive query which selects from the common
+ * table expression itself. In this example, a recursive common
+ * table expression retrieves a category and all its descendants
+ * in a single query:
+ * {@snippet :
+ * var builder = factory.getCriteriaBuilder();
+ * var query = builder.createQuery(Category.class);
+ *
+ * var base = builder.createQuery(Category.class);
+ * var top = base.from(Category.class);
+ * base.select(top).where(builder.equal(top.get(Category_.id), categoryId));
+ *
+ * var tree = query.withRecursive("tree", base, cte -> {
+ *     var step = builder.createQuery(Category.class);
+ *     var child = step.from(Category.class);
+ *     var parent = step.from(cte);
+ *     return step.select(child)
+ *             .where(builder.equal(child.get(Category_.parent), parent));
+ * });
+ *
+ * query.select(query.from(tree));
+ * var categories = agent.createQuery(query).getResultList();
+ * }
+ *
+ * @param <T> the type returned by the query defining the common
+ *            table expression
+ *
+ * @see CriteriaQuery#with(String, CriteriaSelect)
+ * @see CriteriaQuery#withRecursive(String, CriteriaSelect, java.util.function.Function)
+ * @see AbstractQuery#from(CommonTableExpression)
+ *
+ * @since 4.0
+ */
+public interface CommonTableExpression<T> {
+
+    /**
+     * The name of the common table expression, which is unique
+     * within the query which declares it.
+     * @return the name
+     */
+    @Nonnull
+    String getName();
+
+    /**
+     * The query defining the common table expression. For a
+     * recursive common table expression, this is the base query.
+     * @return the defining query
+     */
+    @Nonnull
+    CriteriaSelect<T> getQuery();
+
+    /**
+     * Whether this common table expression is recursive.
+     * @return {@code true} if the common table expression was
+     *         declared via {@code withRecursive()}
+     */
+    boolean isRecursive();
+
+    /**
+     * Whether duplicate rows are eliminated from the union of
+     * the base query and recursive query of a recursive common
+     * table expression.
+     * @return {@code true} if the recursive union is a
+     *         {@code UNION}, or {@code false} if it is a
+     *         {@code UNION ALL} or if this common table expression
+     *         is not recursive
+     */
+    boolean isDistinct();
+}
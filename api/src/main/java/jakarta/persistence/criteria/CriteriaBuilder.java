@@ -248,7 +248,7 @@ public interface CriteriaBuilder {
     @Nonnull
     CriteriaQuery<Tuple> createTupleQuery();
 
-    // methods to construct queries for bulk updates and deletes:
+    // methods to construct queries for bulk updates, deletes, and inserts:
 
     /**
      * Create a {@link CriteriaUpdate} object to perform a bulk
@@ -338,6 +338,50 @@ public interface CriteriaBuilder {
     @Nonnull
     CriteriaDelete<?> createCriteriaDelete(@Nonnull String jpql);
 
+    /**
+     * Create a {@link CriteriaInsert} object to perform a bulk
+     * insert operation.
+     * @param targetEntity  target type for insert operation
+     * @param <T> the target entity type
+     * @return the criteria statement object
+     * @since 4.0
+     */
+    @Nonnull
+    <T> CriteriaInsert<T> createCriteriaInsert(@Nonnull Class<T> targetEntity);
+
+    /**
+     * Create a {@link CriteriaInsert} object representing the
+     * given Jakarta Persistence Query Language {@code INSERT}
+     * statement with the given target entity type.
+     * @param jpql A Jakarta Persistence Query Language
+     *             {@code INSERT} statement
+     * @param targetEntity target type for insert operation
+     * @param <T> the target entity type
+     * @throws IllegalArgumentException if the query string is
+     *         found to be invalid, or if the entity type inserted
+     *         by the statement is not exactly the same as the
+     *         specified target type
+     * @return the criteria statement object
+     * @since 4.0
+     */
+    @Nonnull
+    <T> CriteriaInsert<T> createCriteriaInsert(@Nonnull Class<T> targetEntity,
+                                               @Nonnull String jpql);
+
+    /**
+     * Create a {@link CriteriaInsert} object representing the
+     * given Jakarta Persistence Query Language {@code INSERT}
+     * statement.
+     * @param jpql A Jakarta Persistence Query Language
+     *             {@code INSERT} statement
+     * @throws IllegalArgumentException if the query string is
+     *         found to be invalid
+     * @return the criteria statement object
+     * @since 4.0
+     */
+    @Nonnull
+    CriteriaInsert<?> createCriteriaInsert(@Nonnull String jpql);
+
     /**
      * Modify the Jakarta Persistence Query Language query
      * represented by the given reference, returning a
@@ -622,6 +666,144 @@ public interface CriteriaBuilder {
      */
     @Nonnull
     Expression<Long> countDistinct(@Nonnull Expression<?> x);
+
+
+    //window functions:
+
+    /**
+     * Create a {@linkplain Window window} with no partitioning,
+     * ordering, or frame.
+     * @return a new window
+     * @since 4.0
+     */
+    @Nonnull
+    Window createWindow();
+
+    /**
+     * Create a window function returning the number of the current
+     * row within its partition, counting from 1.
+     * @param window  the window
+     * @return row number expression
+     * @since 4.0
+     */
+    @Nonnull
+    NumericExpression<Long> rowNumber(@Nonnull Window window);
+
+    /**
+     * Create a window function returning the rank of the current row
+     * within its partition, with gaps. Rows which are peers in the
+     * ordering of the window are assigned the same rank.
+     * @param window  the window
+     * @return rank expression
+     * @since 4.0
+     */
+    @Nonnull
+    NumericExpression<Long> rank(@Nonnull Window window);
+
+    /**
+     * Create a window function returning the rank of the current row
+     * within its partition, without gaps. Rows which are peers in the
+     * ordering of the window are assigned the same rank.
+     * @param window  the window
+     * @return dense rank expression
+     * @since 4.0
+     */
+    @Nonnull
+    NumericExpression<Long> denseRank(@Nonnull Window window);
+
+    /**
+     * Create a window function returning the value of the given
+     * expression evaluated at the row which precedes the current
+     * row by the given offset within its partition, or null if
+     * there is no such row.
+     * @param x  the expression
+     * @param offset  the number of rows preceding the current row
+     * @param window  the window
+     * @param <T> the type of the expression
+     * @return lag expression
+     * @since 4.0
+     */
+    @Nonnull
+    <T> Expression<T> lag(@Nonnull Expression<T> x, int offset,
+                          @Nonnull Window window);
+
+    /**
+     * Create a window function returning the value of the given
+     * expression evaluated at the row which precedes the current
+     * row by the given offset within its partition, or the given
+     * default value if there is no such row.
+     * @param x  the expression
+     * @param offset  the number of rows preceding the current row
+     * @param defaultValue  the value when there is no such row
+     * @param window  the window
+     * @param <T> the type of the expression
+     * @return lag expression
+     * @since 4.0
+     */
+    @Nonnull
+    <T> Expression<T> lag(@Nonnull Expression<T> x, int offset,
+                          @Nonnull Expression<? extends T> defaultValue,
+                          @Nonnull Window window);
+
+    /**
+     * Create a window function returning the value of the given
+     * expression evaluated at the row which follows the current
+     * row by the given offset within its partition, or null if
+     * there is no such row.
+     * @param x  the expression
+     * @param offset  the number of rows following the current row
+     * @param window  the window
+     * @param <T> the type of the expression
+     * @return lead expression
+     * @since 4.0
+     */
+    @Nonnull
+    <T> Expression<T> lead(@Nonnull Expression<T> x, int offset,
+                           @Nonnull Window window);
+
+    /**
+     * Create a window function returning the value of the given
+     * expression evaluated at the row which follows the current
+     * row by the given offset within its partition, or the given
+     * default value if there is no such row.
+     * @param x  the expression
+     * @param offset  the number of rows following the current row
+     * @param defaultValue  the value when there is no such row
+     * @param window  the window
+     * @param <T> the type of the expression
+     * @return lead expression
+     * @since 4.0
+     */
+    @Nonnull
+    <T> Expression<T> lead(@Nonnull Expression<T> x, int offset,
+                           @Nonnull Expression<? extends T> defaultValue,
+                           @Nonnull Window window);
+
+    /**
+     * Apply the given aggregate expression, for example, an
+     * expression obtained by calling {@link #sum(Expression)} or
+     * {@link #count(Expression)}, as a window function over the
+     * given window. The aggregate function is evaluated, for each
+     * row, over the rows of the frame of the current row, without
+     * collapsing the rows of the query result into groups.
+     * {@snippet :
+     * var runningTotal =
+     *         builder.over(builder.sum(payment.get(Payment_.amount)),
+     *                 builder.createWindow()
+     *                         .partitionBy(payment.get(Payment_.account))
+     *                         .orderBy(builder.asc(payment.get(Payment_.date))));
+     * }
+     * @param aggregate  an aggregate expression
+     * @param window  the window
+     * @param <T> the type of the aggregate expression
+     * @return window function expression
+     * @throws IllegalArgumentException if the given expression is
+     *         not an aggregate expression
+     * @since 4.0
+     */
+    @Nonnull
+    <T> Expression<T> over(@Nonnull Expression<T> aggregate,
+                           @Nonnull Window window);
 	
 
 
@@ -48,6 +48,18 @@ import java.util.List;
  */
 public interface CriteriaDelete<T> extends CriteriaStatement<T> {
 
+    /**
+     * Specify items to be returned for each affected entity.
+     * This method only overrides the return type of the
+     * corresponding {@code CriteriaStatement} method.
+     * @param selections  the items to be returned
+     * @return the modified delete query
+     * @since 4.0
+     */
+    @Override
+    @Nonnull
+    CriteriaDelete<T> returning(@Nonnull Selection<?>... selections);
+
     /**
      * Modify the DELETE query to restrict the target of the deletion 
      * according to the specified boolean expression.
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package jakarta.persistence.criteria;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.List;
+
+/**
+ * The {@code CriteriaInsert} interface defines functionality for
+ * performing bulk insert operations using the Criteria API. The
+ * inserted rows are either the result of a {@linkplain
+ * #select(CriteriaSelect) query}, executed by the database without
+ * transferring any data to the client, or are given explicitly as
+ * {@linkplain #values(Expression[]) lists of values}.
+ * <p>
+ * For example, this criteria insert copies out of print books to
+ * an archive entity:
+ * {@snippet :
+ * var builder = factory.getCriteriaBuilder();
+ *
+ * var outOfPrint = builder.createTupleQuery();
+ * var book = outOfPrint.from(Book.class);
+ * outOfPrint.multiselect(book.get(Book_.isbn), book.get(Book_.title))
+ *           .where(book.get(Book_.outOfPrint));
+ *
+ * var insert = builder.createCriteriaInsert(ArchivedBook.class);
+ * var archived = insert.from(ArchivedBook.class);
+ * insert.into(archived.get(ArchivedBook_.isbn), archived.get(ArchivedBook_.title))
+ *       .select(outOfPrint);
+ *
+ * int inserted = agent.createStatement(insert).execute();
+ * }
+ *
+ * <p>Criteria API bulk insert operations map directly to database
+ * insert operations. The persistence context is not synchronized
+ * with the result of the bulk insert. Lifecycle callbacks are not
+ * invoked for the inserted entities. The identifier of each inserted
+ * entity must either be one of the target paths, or be assigned by
+ * an {@linkplain jakarta.persistence.GenerationType#IDENTITY identity
+ * column} or {@linkplain jakarta.persistence.GenerationType#SEQUENCE
+ * sequence} evaluated by the database. If the entity is versioned,
+ * and its version attribute is not a target path, the version of
+ * each inserted entity is initialized by the persistence provider.
+ *
+ * <p> A {@code CriteriaInsert} object must have a single root,
+ * whose paths identify the target attributes.
+ *
+ * @param <T>  the entity type that is the target of the INSERT
+ *
+ * @since 4.0
+ */
+public interface CriteriaInsert<T> extends CriteriaStatement<T> {
+
+    /**
+     * Specify the target attributes of the INSERT, as paths
+     * rooted at the {@linkplain #getRoot root} of the statement.
+     * Replaces the previously specified target paths, if any.
+     * Each path must refer to a basic attribute, to an attribute
+     * of an embeddable type, or to a single-valued association.
+     * @param paths  the target paths
+     * @return the modified insert statement
+     */
+    @Nonnull
+    CriteriaInsert<T> into(@Nonnull Path<?>... paths);
+
+    /**
+     * Specify a query producing the inserted rows. The items
+     * selected by the query are assigned to the {@linkplain
+     * #into target paths} by position, and must have the same
+     * number and compatible types. Replaces any previously
+     * specified query or values.
+     * @param query  the query producing the inserted rows
+     * @return the modified insert statement
+     */
+    @Nonnull
+    CriteriaInsert<T> select(@Nonnull CriteriaSelect<?> query);
+
+    /**
+     * Add a row of values to be inserted. The values are assigned
+     * to the {@linkplain #into target paths} by position, and must
+     * have the same number and compatible types. Replaces any
+     * previously specified query.
+     * @param values  the values of the row
+     * @return the modified insert statement
+     */
+    @Nonnull
+    CriteriaInsert<T> values(@Nonnull Expression<?>... values);
+
+    /**
+     * Specify items to be returned for each inserted entity.
+     * This method only overrides the return type of the
+     * corresponding {@code CriteriaStatement} method.
+     * @param selections  the items to be returned
+     * @return the modified insert statement
+     * @since 4.0
+     */
+    @Override
+    @Nonnull
+    CriteriaInsert<T> returning(@Nonnull Selection<?>... selections);
+
+    /**
+     * Return the target paths of the INSERT, or an empty list if
+     * no target paths have been specified.
+     * @return the list of target paths
+     */
+    @Nonnull
+    List<Path<?>> getTargetPaths();
+
+    /**
+     * Return the query producing the inserted rows, or null if no
+     * query has been specified.
+     * @return the query producing the inserted rows
+     */
+    @Nullable
+    CriteriaSelect<?> getSelect();
+
+    /**
+     * Return the rows of values to be inserted, or an empty list
+     * if no values have been specified.
+     * @return the list of rows
+     */
+    @Nonnull
+    List<List<Expression<?>>> getValues();
+}
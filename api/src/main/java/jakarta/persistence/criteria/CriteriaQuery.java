@@ -21,6 +21,7 @@ import jakarta.annotation.Nonnull;
 import jakarta.persistence.Tuple;
 
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * The {@code CriteriaQuery} interface defines functionality that is
@@ -382,4 +383,93 @@ public interface CriteriaQuery<T> extends AbstractQuery<T>, CriteriaSelect<T> {
      */
     @Nonnull
     List<Order> getOrderList();
+
+    /**
+     * Declare a {@linkplain CommonTableExpression common table
+     * expression} with the given name, defined by the given query,
+     * which may then be used as a {@linkplain
+     * AbstractQuery#from(CommonTableExpression) root} of this query
+     * or of its subqueries.
+     * {@snippet :
+     * var recent = builder.createQuery(Order.class);
+     * var order = recent.from(Order.class);
+     * recent.select(order).where(order.get(Order_.date).after(since));
+     *
+     * var query = builder.createQuery(Customer.class);
+     * var recentOrders = query.with("recentOrders", recent);
+     * var recentOrder = query.from(recentOrders);
+     * query.select(recentOrder.get(Order_.customer)).distinct(true);
+     * }
+     * @param name  the name of the common table expression, which
+     *              must be unique within this query
+     * @param query  the query defining the common table expression
+     * @param <X> the type returned by the defining query
+     * @return the common table expression
+     * @throws IllegalArgumentException if a common table expression
+     *         with the given name has already been declared
+     * @since 4.0
+     */
+    @Nonnull
+    <X> CommonTableExpression<X> with(@Nonnull String name,
+                                      @Nonnull CriteriaSelect<X> query);
+
+    /**
+     * Declare a recursive {@linkplain CommonTableExpression common
+     * table expression} with the given name, defined by the
+     * {@code UNION ALL} of the given base query with the recursive
+     * query returned by the given function. The function is called
+     * exactly once, and receives the common table expression itself,
+     * which the recursive query uses as a {@linkplain
+     * AbstractQuery#from(CommonTableExpression) root}. The recursive
+     * query is a separate criteria query, typically created by
+     * {@link CriteriaBuilder#createQuery(Class)} within the function.
+     * @param name  the name of the common table expression, which
+     *              must be unique within this query
+     * @param baseQuery  the non-recursive base query
+     * @param recursiveQuery  a function returning the recursive
+     *                        query, given the common table expression
+     * @param <X> the type returned by the defining queries
+     * @return the common table expression
+     * @throws IllegalArgumentException if a common table expression
+     *         with the given name has already been declared
+     * @since 4.0
+     */
+    @Nonnull
+    <X> CommonTableExpression<X> withRecursive(@Nonnull String name,
+            @Nonnull CriteriaSelect<X> baseQuery,
+            @Nonnull Function<CommonTableExpression<X>, CriteriaSelect<X>> recursiveQuery);
+
+    /**
+     * Declare a recursive {@linkplain CommonTableExpression common
+     * table expression} with the given name, defined by the
+     * {@code UNION} of the given base query with the recursive
+     * query returned by the given function, eliminating duplicate
+     * rows, and thereby terminating recursion over cyclic data.
+     * @param name  the name of the common table expression, which
+     *              must be unique within this query
+     * @param baseQuery  the non-recursive base query
+     * @param recursiveQuery  a function returning the recursive
+     *                        query, given the common table expression
+     * @param <X> the type returned by the defining queries
+     * @return the common table expression
+     * @throws IllegalArgumentException if a common table expression
+     *         with the given name has already been declared
+     * @since 4.0
+     * @see #withRecursive(String, CriteriaSelect, Function)
+     */
+    @Nonnull
+    <X> CommonTableExpression<X> withRecursiveDistinct(@Nonnull String name,
+            @Nonnull CriteriaSelect<X> baseQuery,
+            @Nonnull Function<CommonTableExpression<X>, CriteriaSelect<X>> recursiveQuery);
+
+    /**
+     * Return the {@linkplain CommonTableExpression common table
+     * expressions} declared by this query, in the order in which
+     * they were declared. Modifications to the list do not affect
+     * the query.
+     * @return the list of common table expressions
+     * @since 4.0
+     */
+    @Nonnull
+    List<CommonTableExpression<?>> getCommonTableExpressions();
 }
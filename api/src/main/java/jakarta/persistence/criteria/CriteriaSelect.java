@@ -16,6 +16,10 @@
 
 package jakarta.persistence.criteria;
 
+import jakarta.annotation.Nonnull;
+
+import java.util.List;
+
 /**
  * Abstracts over {@linkplain CriteriaQuery top-level queries} and
  * {@linkplain CriteriaBuilder#union unions} and
@@ -40,10 +44,156 @@ package jakarta.persistence.criteria;
  * var selectedBooks = builder.union(recentBooks, olderBooks);
  * var books = agent.createQuery(selectedBooks).getResultList();
  * }
+ * <p>
+ * Ordering specified by {@link #orderBy(Order...)} on a union,
+ * intersection, or difference applies to the result of the set
+ * operation as a whole, and not to its operands. Similarly, when
+ * a {@link jakarta.persistence.TypedQuery} is created from such a
+ * criteria select, its {@linkplain
+ * jakarta.persistence.TypedQuery#setFirstResult first result},
+ * {@linkplain jakarta.persistence.TypedQuery#setMaxResults maximum
+ * results}, and {@linkplain
+ * jakarta.persistence.TypedQuery#getResultCount result count} apply
+ * to the whole result of the set operation.
+ * {@snippet :
+ * var recentTitles = builder.createQuery(String.class);
+ * var recentBook = recentTitles.from(Book.class);
+ * var title = recentBook.get(Book_.title);
+ * recentTitles.select(title)
+ *             .where(recentBook.get(Book_.publicationDate).after(startDate));
+ *
+ * var olderTitles = builder.createQuery(String.class);
+ * var olderBook = olderTitles.from(Book.class);
+ * olderTitles.select(olderBook.get(Book_.title))
+ *            .where(olderBook.get(Book_.publicationDate).before(cutoffDate));
+ *
+ * var selectedTitles =
+ *         builder.union(recentTitles, olderTitles)
+ *                .orderBy(builder.asc(title));
+ * var page = agent.createQuery(selectedTitles)
+ *         .setFirstResult(40)
+ *         .setMaxResults(20)
+ *         .getResultList();
+ * }
+ * <p>
+ * Criteria selects have <em>structural</em> equality: two criteria
+ * selects built separately are equal if they represent the same
+ * query, as specified by {@link #equals(Object)}. Thus, the
+ * persistence provider may use a criteria select as the key of a
+ * cache of translated queries.
  *
  * @param <T>  the type returned by the query
  *
  * @since 3.2
  */
 public interface CriteriaSelect<T> {
+
+    /**
+     * Specify the ordering expressions that are used to
+     * order the query results.
+     * Replaces the previous ordering expressions, if any.
+     * If no ordering expressions are specified, the previous
+     * ordering, if any, is simply removed, and results will
+     * be returned in no particular order.
+     * The left-to-right sequence of the ordering expressions
+     * determines the precedence, whereby the leftmost has the
+     * highest precedence.
+     * <p>
+     * If this criteria select is a union, intersection, or
+     * difference of queries, the ordering applies to the result
+     * of the set operation, and each ordering expression must be
+     * a selection item of the first operand query, which is then
+     * interpreted as referring to the corresponding item of the
+     * result of the set operation. The ordering expression need
+     * not be the same {@code Expression} object as the selection
+     * item, but must have the same tree structure, compared as
+     * specified by {@link #equals(Object)}.
+     * @param o  zero or more ordering expressions
+     * @return the modified query
+     * @throws IllegalArgumentException if this criteria select
+     *         is a set operation and an ordering expression is
+     *         not structurally equal to a selection item of its
+     *         first operand query
+     * @since 4.0
+     */
+    @Nonnull
+    CriteriaSelect<T> orderBy(@Nonnull Order... o);
+
+    /**
+     * Specify the ordering expressions that are used to
+     * order the query results.
+     * Replaces the previous ordering expressions, if any.
+     * If no ordering expressions are specified, the previous
+     * ordering, if any, is simply removed, and results will
+     * be returned in no particular order.
+     * The order of the ordering expressions in the list
+     * determines the precedence, whereby the first element in
+     * the list has the highest precedence.
+     * @param o  list of zero or more ordering expressions
+     * @return the modified query
+     * @throws IllegalArgumentException if this criteria select
+     *         is a set operation and an ordering expression is
+     *         not structurally equal to a selection item of its
+     *         first operand query
+     * @see #orderBy(Order...)
+     * @since 4.0
+     */
+    @Nonnull
+    CriteriaSelect<T> orderBy(@Nonnull List<Order> o);
+
+    /**
+     * Return the ordering expressions in order of precedence.
+     * Returns empty list if no ordering expressions have been
+     * specified.
+     * Modifications to the list do not affect the query.
+     * @return the list of ordering expressions
+     * @since 4.0
+     */
+    @Nonnull
+    List<Order> getOrderList();
+
+    /**
+     * Compares the given object with this criteria select for
+     * structural equality. Returns {@code true} if and only if
+     * the given object is also a {@code CriteriaSelect} and both
+     * criteria selects have the same result type and an identical
+     * tree structure, that is, if their common table expressions,
+     * roots, joins, fetches, selection items, restrictions, grouping
+     * and ordering expressions, and operands of set operators are
+     * pairwise structurally equal, and occur in the same order. In
+     * particular:
+     * <ul>
+     * <li>roots and joins are compared by entity type, attribute,
+     *     join type, and position, and never by object identity,
+     * <li>literals are compared by value,
+     * <li>{@linkplain ParameterExpression parameters} are compared
+     *     by name, position, and type, and never by the arguments
+     *     later bound to them, and
+     * <li>aliases assigned to selection items are significant.
+     * </ul>
+     * <p>
+     * Since a criteria query is mutable, this relation is only
+     * stable while neither criteria select is modified.
+     *
+     * @param object  the object to compare with this criteria select
+     * @return {@code true} if the given object is structurally equal
+     *         to this criteria select
+     * @since 4.0
+     */
+    @Override
+    boolean equals(Object object);
+
+    /**
+     * Returns a hash code for this criteria select, computed from
+     * its tree structure as specified by {@link #equals(Object)},
+     * such that structurally equal criteria selects have the same
+     * hash code. The hash code is independent of any arguments
+     * bound to the parameters of a query created from this
+     * criteria select.
+     *
+     * @return the structural hash code
+     * @since 4.0
+     */
+    @Override
+    int hashCode();
 }
@@ -19,13 +19,17 @@ import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import jakarta.persistence.metamodel.EntityType;
 
+import java.util.List;
+
 /**
- * Declares operations common to {@link CriteriaUpdate} and
- * {@link CriteriaDelete}. A {@code CriteriaStatement} represents
+ * Declares operations common to {@link CriteriaUpdate},
+ * {@link CriteriaDelete}, and {@link CriteriaInsert}. A
+ * {@code CriteriaStatement} represents
  * a bulk operation affecting a certain entity type.
  *
  * @see CriteriaUpdate
  * @see CriteriaDelete
+ * @see CriteriaInsert
  * @see jakarta.persistence.EntityHandler#createStatement(CriteriaStatement)
  * 
  * @param <T> The affected entity type
@@ -60,4 +64,66 @@ public interface CriteriaStatement<T> extends CommonAbstractCriteria {
     @Nullable
     Root<T> getRoot();
 
+    /**
+     * Specify items to be returned for each entity affected by the
+     * statement when it is executed via
+     * {@link jakarta.persistence.Statement#executeReturning(Class)}.
+     * The items are usually paths rooted at the {@linkplain #getRoot
+     * root} of the statement. Replaces the previously specified
+     * returning items, if any. If no items are specified, the
+     * identifier of each affected entity is returned.
+     * @param selections  the items to be returned
+     * @return the modified statement
+     * @since 4.0
+     */
+    @Nonnull
+    CriteriaStatement<T> returning(@Nonnull Selection<?>... selections);
+
+    /**
+     * Return the items to be returned for each affected entity,
+     * or an empty list if no returning items have been specified.
+     * Modifications to the list do not affect the statement.
+     * @return the list of returning items
+     * @since 4.0
+     */
+    @Nonnull
+    List<Selection<?>> getReturning();
+
+    /**
+     * Compares the given object with this criteria statement for
+     * structural equality. Returns {@code true} if and only if
+     * the given object is also a {@code CriteriaStatement} of the
+     * same kind, and both criteria statements have the same target
+     * entity type and an identical tree structure, that is, if
+     * their roots, assignments, target paths, restrictions, and
+     * subqueries are pairwise structurally equal, according to the
+     * rules specified by {@link CriteriaSelect#equals(Object)}.
+     * In particular, {@linkplain ParameterExpression parameters}
+     * are compared by name, position, and type, and never by the
+     * arguments later bound to them.
+     * <p>
+     * Since a criteria statement is mutable, this relation is only
+     * stable while neither criteria statement is modified.
+     *
+     * @param object  the object to compare with this criteria
+     *                statement
+     * @return {@code true} if the given object is structurally equal
+     *         to this criteria statement
+     * @since 4.0
+     */
+    @Override
+    boolean equals(Object object);
+
+    /**
+     * Returns a hash code for this criteria statement, computed
+     * from its tree structure as specified by {@link #equals(Object)},
+     * such that structurally equal criteria statements have the
+     * same hash code.
+     *
+     * @return the structural hash code
+     * @since 4.0
+     */
+    @Override
+    int hashCode();
+
 }
@@ -115,6 +115,18 @@ public interface CriteriaUpdate<T> extends CriteriaStatement<T> {
     @Nonnull
     CriteriaUpdate<T> set(@Nonnull String attributeName, Object value);
 
+    /**
+     * Specify items to be returned for each affected entity.
+     * This method only overrides the return type of the
+     * corresponding {@code CriteriaStatement} method.
+     * @param selections  the items to be returned
+     * @return the modified update query
+     * @since 4.0
+     */
+    @Override
+    @Nonnull
+    CriteriaUpdate<T> returning(@Nonnull Selection<?>... selections);
+
     /**
      * Modify the update query to restrict the target of the
      * update according to the specified boolean expression.
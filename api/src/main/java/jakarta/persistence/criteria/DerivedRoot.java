@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package jakarta.persistence.criteria;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * A query root whose source is a {@linkplain CommonTableExpression
+ * common table expression} or a {@linkplain Subquery subquery}
+ * rather than an entity. The attributes of
+ * a derived root whose type is an entity type are referenced via the
+ * metamodel, exactly as for a {@link Root}.
+ * <p>
+ * The defining query of a common table expression may select several
+ * items. When these items are assigned {@linkplain Selection#alias
+ * aliases}, each item is referenced by calling {@link #get(String)}
+ * with its alias. On the other hand, a subquery always selects a
+ * single item, and so a derived root whose source is a subquery has
+ * the type of that item.
+ * <p>
+ * A derived root is not included in the {@linkplain
+ * AbstractQuery#getRoots roots} of the query, and is instead
+ * returned by {@link AbstractQuery#getDerivedRoots()}.
+ *
+ * @param <X> the type of the derived root
+ *
+ * @see AbstractQuery#from(CommonTableExpression)
+ * @see AbstractQuery#from(Subquery)
+ *
+ * @since 4.0
+ */
+public interface DerivedRoot<X> extends From<X, X> {
+
+    /**
+     * The common table expression which is the source of this
+     * derived root.
+     * @return the common table expression, or null if this root
+     *         is not derived from a common table expression
+     */
+    @Nullable
+    CommonTableExpression<X> getCommonTableExpression();
+
+    /**
+     * The subquery which is the source of this derived root.
+     * @return the subquery, or null if this root is not derived
+     *         from a subquery
+     */
+    @Nullable
+    Subquery<X> getSubquery();
+}
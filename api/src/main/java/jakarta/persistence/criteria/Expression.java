@@ -106,7 +106,9 @@ public interface Expression<T> extends Selection<T> {
 
     /**
      * Create a predicate to test whether the expression is a member
-     * of the collection.
+     * of the collection. The collection is bound according to the
+     * {@link jakarta.persistence.CollectionParameterBinding} in
+     * effect.
      * @param values  collection of values to be tested against
      * @return predicate testing for membership
      */
@@ -115,7 +117,10 @@ public interface Expression<T> extends Selection<T> {
 
     /**
      * Create a predicate to test whether the expression is a member
-     * of the collection.
+     * of the collection. When the argument is a {@linkplain
+     * ParameterExpression parameter}, the binding of the collection
+     * passed as its argument is determined by the {@link
+     * jakarta.persistence.CollectionParameterBinding} in effect.
      * @param values expression corresponding to collection to be
      *        tested against
      * @return predicate testing for membership
@@ -135,6 +135,92 @@ public interface From<Z, X> extends Path<X>, FetchParent<Z, X> {
     <Y> Join<X, Y> join(@Nonnull EntityType<Y> entity,
                         @Nonnull JoinType joinType);
 
+    /**
+     * Create and add an inner join to the given subquery. The
+     * subquery must have been created by the query to which this
+     * root or join belongs, and may not be correlated with any
+     * root or join of that query. The join condition is specified
+     * by calling {@link Join#on}.
+     * @param subquery  the subquery
+     * @param <Y> the type of the subquery
+     * @return the resulting join
+     * @throws IllegalArgumentException if the subquery is
+     *         correlated with a root or join of the query
+     * @since 4.0
+     */
+    @Nonnull
+    <Y> Join<X, Y> join(@Nonnull Subquery<Y> subquery);
+
+    /**
+     * Create and add a join to the given subquery. The subquery
+     * must have been created by the query to which this root or
+     * join belongs, and may not be correlated with any root or
+     * join of that query. The join condition is specified by
+     * calling {@link Join#on}.
+     * @param subquery  the subquery
+     * @param joinType  join type
+     * @param <Y> the type of the subquery
+     * @return the resulting join
+     * @throws IllegalArgumentException if the subquery is
+     *         correlated with a root or join of the query
+     * @since 4.0
+     */
+    @Nonnull
+    <Y> Join<X, Y> join(@Nonnull Subquery<Y> subquery,
+                        @Nonnull JoinType joinType);
+
+    /**
+     * Create and add an inner lateral join to the given subquery.
+     * The subquery is evaluated once for each row of this root or
+     * join, and may be {@linkplain Subquery#correlate(From)
+     * correlated} with this root or join, or with any root or join
+     * to its left.
+     * <p>
+     * In this example, the most recent order of each customer is
+     * selected:
+     * {@snippet :
+     * var query = builder.createTupleQuery();
+     * var customer = query.from(Customer.class);
+     *
+     * var latest = query.subquery(Order.class);
+     * var order = latest.from(Order.class);
+     * latest.select(order)
+     *       .where(builder.equal(order.get(Order_.customer),
+     *                            latest.correlate(customer)))
+     *       .orderBy(builder.desc(order.get(Order_.date)))
+     *       .limit(1);
+     *
+     * var latestOrder = customer.joinLateral(latest, JoinType.LEFT);
+     * query.multiselect(customer, latestOrder);
+     * }
+     * @param subquery  the subquery
+     * @param <Y> the type of the subquery
+     * @return the resulting join
+     * @since 4.0
+     */
+    @Nonnull
+    <Y> Join<X, Y> joinLateral(@Nonnull Subquery<Y> subquery);
+
+    /**
+     * Create and add a lateral join to the given subquery. The
+     * subquery is evaluated once for each row of this root or
+     * join, and may be {@linkplain Subquery#correlate(From)
+     * correlated} with this root or join, or with any root or
+     * join to its left.
+     * @param subquery  the subquery
+     * @param joinType  join type, which must be
+     *                  {@link JoinType#INNER} or {@link JoinType#LEFT}
+     * @param <Y> the type of the subquery
+     * @return the resulting join
+     * @throws IllegalArgumentException if the join type is
+     *         {@link JoinType#RIGHT}
+     * @since 4.0
+     * @see #joinLateral(Subquery)
+     */
+    @Nonnull
+    <Y> Join<X, Y> joinLateral(@Nonnull Subquery<Y> subquery,
+                               @Nonnull JoinType joinType);
+
     /**
      * Create an inner join to the specified single-valued 
      * attribute.
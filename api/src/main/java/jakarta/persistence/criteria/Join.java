@@ -98,6 +98,25 @@ public interface Join<Z, X> extends From<Z, X> {
     @Nonnull
     JoinType getJoinType();
 
+    /**
+     * Return the subquery which is the target of the join, or null
+     * if the target of the join is not a subquery.
+     * @return the subquery or null
+     * @see From#join(Subquery)
+     * @see From#joinLateral(Subquery)
+     * @since 4.0
+     */
+    @Nullable
+    Subquery<X> getSubquery();
+
+    /**
+     * Whether this is a lateral join to a subquery.
+     * @return {@code true} if the join was created by calling
+     *         {@code joinLateral()}
+     * @since 4.0
+     */
+    boolean isLateral();
+
     /**
      * Downcast the joined type to the given type.
      * @param type a subtype of the joined type
@@ -193,6 +193,83 @@ public interface Subquery<T> extends AbstractQuery<T>, Expression<T> {
     @Nonnull
     Subquery<T> distinct(boolean distinct);
 
+    /**
+     * Specify the ordering expressions that are used to order the
+     * subquery results. Replaces the previous ordering expressions,
+     * if any. The ordering of a subquery is only significant when
+     * a {@linkplain #limit limit} or {@linkplain #offset offset} is
+     * specified, or when the subquery occurs in the {@code FROM}
+     * clause.
+     * @param o  zero or more ordering expressions
+     * @return the modified subquery
+     * @since 4.0
+     */
+    @Nonnull
+    Subquery<T> orderBy(@Nonnull Order... o);
+
+    /**
+     * Specify the ordering expressions that are used to order the
+     * subquery results. Replaces the previous ordering expressions,
+     * if any.
+     * @param o  list of zero or more ordering expressions
+     * @return the modified subquery
+     * @since 4.0
+     * @see #orderBy(Order...)
+     */
+    @Nonnull
+    Subquery<T> orderBy(@Nonnull List<Order> o);
+
+    /**
+     * Specify the maximum number of results returned by the
+     * subquery, or null if the number of results is not limited.
+     * @param maxResults  the maximum number of results, or null
+     * @return the modified subquery
+     * @throws IllegalArgumentException if the argument is negative
+     * @since 4.0
+     */
+    @Nonnull
+    Subquery<T> limit(@Nullable Integer maxResults);
+
+    /**
+     * Specify the number of results of the subquery to skip, or
+     * null if no results are skipped.
+     * @param firstResult  the number of results to skip, or null
+     * @return the modified subquery
+     * @throws IllegalArgumentException if the argument is negative
+     * @since 4.0
+     */
+    @Nonnull
+    Subquery<T> offset(@Nullable Integer firstResult);
+
+    /**
+     * Return the ordering expressions in order of precedence.
+     * Returns empty list if no ordering expressions have been
+     * specified. Modifications to the list do not affect the
+     * subquery.
+     * @return the list of ordering expressions
+     * @since 4.0
+     */
+    @Nonnull
+    List<Order> getOrderList();
+
+    /**
+     * Return the maximum number of results returned by the
+     * subquery, or null if the number of results is not limited.
+     * @return the maximum number of results, or null
+     * @since 4.0
+     */
+    @Nullable
+    Integer getLimit();
+
+    /**
+     * Return the number of results of the subquery to skip, or
+     * null if no results are skipped.
+     * @return the number of results to skip, or null
+     * @since 4.0
+     */
+    @Nullable
+    Integer getOffset();
+
     /**
      * Create a subquery root or join correlated to a root or join
      * of the enclosing query.
@@ -282,7 +359,7 @@ public interface Subquery<T> extends AbstractQuery<T>, Expression<T> {
     /**
      * Return the query of which this is a subquery.
      * This may be a CriteriaQuery, CriteriaUpdate, CriteriaDelete,
-     * or a Subquery.
+     * CriteriaInsert, or a Subquery.
      * @return the enclosing query or subquery
      * @since 2.1
      */
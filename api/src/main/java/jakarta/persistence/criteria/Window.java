@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package jakarta.persistence.criteria;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.List;
+
+/**
+ * Specifies a window, that is, a partitioning and ordering of the
+ * rows of a query result, over which a window function is evaluated.
+ * A window is created by calling {@link CriteriaBuilder#createWindow()},
+ * and passed to a window function such as {@link
+ * CriteriaBuilder#rowNumber(Window)}, {@link CriteriaBuilder#lag}, or
+ * {@link CriteriaBuilder#over(Expression, Window)}.
+ * <p>
+ * In this example, the three longest books by each author are
+ * selected:
+ * {@snippet :
+ * var ranked = builder.createTupleQuery();
+ * var book = ranked.from(Book.class);
+ * var author = book.join(Book_.authors);
+ * var window = builder.createWindow()
+ *         .partitionBy(author)
+ *         .orderBy(builder.desc(book.get(Book_.pages)));
+ * var rank = builder.rowNumber(window);
+ * ranked.multiselect(book.alias("book"), rank.alias("rank"));
+ *
+ * var query = builder.createQuery(Book.class);
+ * var rankedBooks = query.with("rankedBooks", ranked);
+ * var rankedBook = query.from(rankedBooks);
+ * query.select(rankedBook.get("book"))
+ *      .where(builder.le(rankedBook.get("rank"), 3));
+ * }
+ * <p>
+ * A window function may only occur in the {@code SELECT} clause or
+ * the {@code ORDER BY} clause of a query.
+ *
+ * @since 4.0
+ */
+public interface Window {
+
+    /**
+     * Specify the expressions by which rows are partitioned.
+     * Replaces the previously specified partitioning expressions,
+     * if any. If no partitioning expressions are specified, all
+     * rows of the query result belong to a single partition.
+     * @param expressions  the partitioning expressions
+     * @return the modified window
+     */
+    @Nonnull
+    Window partitionBy(@Nonnull Expression<?>... expressions);
+
+    /**
+     * Specify the ordering of rows within each partition.
+     * Replaces the previously specified ordering, if any.
+     * @param orders  the orderings, in order of precedence
+     * @return the modified window
+     */
+    @Nonnull
+    Window orderBy(@Nonnull Order... orders);
+
+    /**
+     * Specify a frame, that is, the rows of the partition to which
+     * an {@linkplain CriteriaBuilder#over aggregate function} is
+     * applied for the current row, as a number of rows preceding
+     * and following the current row. A null value indicates that
+     * the frame is unbounded in that direction. If no frame is
+     * specified, the frame includes every row of the partition
+     * when no ordering is specified, or every row from the start
+     * of the partition up to the last row which is peer to the
+     * current row in the ordering otherwise.
+     * @param preceding  the number of rows preceding the current
+     *                   row, or null if unbounded
+     * @param following  the number of rows following the current
+     *                   row, or null if unbounded
+     * @return the modified window
+     * @throws IllegalArgumentException if either argument is
+     *         negative
+     * @see #getFrame()
+     */
+    @Nonnull
+    Window rowsBetween(@Nullable Integer preceding,
+                       @Nullable Integer following);
+
+    /**
+     * Return the partitioning expressions, or an empty list if no
+     * partitioning expressions have been specified. Modifications
+     * to the list do not affect the window.
+     * @return the partitioning expressions
+     */
+    @Nonnull
+    List<Expression<?>> getPartitionList();
+
+    /**
+     * Return the orderings, or an empty list if no ordering has
+     * been specified. Modifications to the list do not affect the
+     * window.
+     * @return the orderings
+     */
+    @Nonnull
+    List<Order> getOrderList();
+
+    /**
+     * Return the frame specified by {@link #rowsBetween}, or null
+     * if no frame has been specified.
+     * @return the frame, or null
+     */
+    @Nullable
+    Frame getFrame();
+
+    /**
+     * The bounds of the frame of a window, as a number of rows
+     * preceding and following the current row. A null bound
+     * indicates that the frame is unbounded in that direction,
+     * and a zero bound that the frame ends at the current row.
+     *
+     * @param preceding  the number of rows preceding the current
+     *                   row, or null if unbounded
+     * @param following  the number of rows following the current
+     *                   row, or null if unbounded
+     *
+     * @since 4.0
+     */
+    record Frame(@Nullable Integer preceding,
+                 @Nullable Integer following) {
+
+        /**
+         * @throws IllegalArgumentException if either bound is
+         *         negative
+         */
+        public Frame {
+            if (preceding != null && preceding < 0
+                    || following != null && following < 0) {
+                throw new IllegalArgumentException("preceding and following must not be negative");
+            }
+        }
+    }
+}
@@ -25,9 +25,11 @@
  *     criteria.
  * <li>{@link jakarta.persistence.criteria.CriteriaQuery}
  *     represents a top-level query slection query.
- * <li>{@link jakarta.persistence.criteria.CriteriaUpdate}
- *     and {@link jakarta.persistence.criteria.CriteriaDelete}
- *     represents update and delete statements, respectively.
+ * <li>{@link jakarta.persistence.criteria.CriteriaUpdate},
+ *     {@link jakarta.persistence.criteria.CriteriaDelete}, and
+ *     {@link jakarta.persistence.criteria.CriteriaInsert}
+ *     represent update, delete, and insert statements,
+ *     respectively.
  * <li>{@link jakarta.persistence.criteria.Expression}
  *     and its subtypes represent expressions of various
  *     types.
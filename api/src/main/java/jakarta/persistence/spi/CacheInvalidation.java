@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package jakarta.persistence.spi;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An instruction to invalidate data held in the second-level cache,
+ * broadcast by a {@link CacheInvalidationTransport} to the other
+ * nodes of a cluster.
+ * <p>
+ * An invalidation identifies a {@linkplain Kind kind} of cached data,
+ * a region, named as specified by
+ * {@link jakarta.persistence.Cache#evictRegion}, and optionally a
+ * key within the region:
+ * <ul>
+ * <li>for {@link Kind#ENTITY}, the region holds the data of an
+ *     entity, and the key is the primary key of the entity,
+ * <li>for {@link Kind#COLLECTION}, the region holds the state of a
+ *     collection, and the key is the primary key of the owning
+ *     entity, and
+ * <li>for {@link Kind#QUERY}, the region is a name assigned to a
+ *     region of cached query results by the persistence provider,
+ *     and the key is never specified, and
+ * <li>for {@link Kind#REGION}, the region is any region of the
+ *     cache, whatever kind of data it holds, and the key is never
+ *     specified.
+ * </ul>
+ * An invalidation with no key applies to every entry of the region.
+ *
+ * @param kind The kind of cached data to be invalidated
+ * @param region The name of the region containing the data
+ * @param key The key of the invalidated entry, or {@code null} if
+ *            every entry of the region is invalidated
+ *
+ * @apiNote This is an SPI type used by the persistence provider and
+ * the implementation of a {@link CacheInvalidationTransport}. It is
+ * not intended for direct use by application programs.
+ *
+ * @since 4.0
+ */
+public record CacheInvalidation(@Nonnull Kind kind,
+                                @Nonnull String region,
+                                @Nullable Object key) {
+
+    /**
+     * Enumerates the kinds of data held in the second-level cache.
+     *
+     * @since 4.0
+     */
+    public enum Kind {
+        /**
+         * The state of an entity.
+         */
+        ENTITY,
+        /**
+         * The state of a collection belonging to an entity.
+         */
+        COLLECTION,
+        /**
+         * The results of a query.
+         */
+        QUERY,
+        /**
+         * Any data held in a named region of the cache.
+         */
+        REGION
+    }
+
+    public CacheInvalidation {
+        requireNonNull(kind, "kind is required");
+        requireNonNull(region, "region is required");
+        if ((kind == Kind.QUERY || kind == Kind.REGION) && key != null) {
+            throw new IllegalArgumentException("a query or region invalidation may not specify a key");
+        }
+    }
+
+    /**
+     * Invalidate the cached state of the entity with the given
+     * entity name and primary key.
+     * @param entityName The entity name
+     * @param primaryKey The primary key of the entity
+     * @return the invalidation
+     */
+    @Nonnull
+    public static CacheInvalidation entity(@Nonnull String entityName,
+                                           @Nonnull Object primaryKey) {
+        requireNonNull(primaryKey, "primaryKey is required");
+        return new CacheInvalidation(Kind.ENTITY, entityName, primaryKey);
+    }
+
+    /**
+     * Invalidate the cached state of every entity with the given
+     * entity name.
+     * @param entityName The entity name
+     * @return the invalidation
+     */
+    @Nonnull
+    public static CacheInvalidation entities(@Nonnull String entityName) {
+        return new CacheInvalidation(Kind.ENTITY, entityName, null);
+    }
+
+    /**
+     * Invalidate the cached state of the given collection belonging
+     * to the entity with the given entity name and primary key.
+     * @param entityName The entity name of the owning entity
+     * @param attributeName The name of the collection-valued attribute
+     * @param primaryKey The primary key of the owning entity
+     * @return the invalidation
+     */
+    @Nonnull
+    public static CacheInvalidation collection(@Nonnull String entityName,
+                                               @Nonnull String attributeName,
+                                               @Nonnull Object primaryKey) {
+        requireNonNull(attributeName, "attributeName is required");
+        requireNonNull(primaryKey, "primaryKey is required");
+        return new CacheInvalidation(Kind.COLLECTION, entityName + '.' + attributeName, primaryKey);
+    }
+
+    /**
+     * Invalidate the cached state of the given collection for every
+     * owning entity with the given entity name.
+     * @param entityName The entity name of the owning entity
+     * @param attributeName The name of the collection-valued attribute
+     * @return the invalidation
+     */
+    @Nonnull
+    public static CacheInvalidation collections(@Nonnull String entityName,
+                                                @Nonnull String attributeName) {
+        requireNonNull(attributeName, "attributeName is required");
+        return new CacheInvalidation(Kind.COLLECTION, entityName + '.' + attributeName, null);
+    }
+
+    /**
+     * Invalidate every cached query result in the given region.
+     * @param region The name of the query result region
+     * @return the invalidation
+     */
+    @Nonnull
+    public static CacheInvalidation query(@Nonnull String region) {
+        return new CacheInvalidation(Kind.QUERY, region, null);
+    }
+
+    /**
+     * Invalidate every entry of the given region of the cache,
+     * whatever kind of data it holds.
+     * @param region The name of the region
+     * @return the invalidation
+     * @see jakarta.persistence.Cache#evictRegion
+     */
+    @Nonnull
+    public static CacheInvalidation region(@Nonnull String region) {
+        return new CacheInvalidation(Kind.REGION, region, null);
+    }
+
+    /**
+     * Does this invalidation apply to every entry of its region?
+     * @return {@code true} if no key is specified
+     */
+    public boolean isRegionWide() {
+        return key == null;
+    }
+
+    /**
+     * Coalesce the given invalidations, typically all invalidations
+     * resulting from a single transaction, into a minimal list, by
+     * removing duplicates, by removing every invalidation of an
+     * individual entry when its whole region is also invalidated,
+     * and by removing every other invalidation of a region which is
+     * the subject of a {@link Kind#REGION} invalidation.
+     * The relative order of the remaining invalidations is preserved.
+     * @param invalidations The invalidations to coalesce
+     * @return an unmodifiable list of invalidations
+     */
+    @Nonnull
+    public static List<CacheInvalidation> coalesce(@Nonnull Collection<CacheInvalidation> invalidations) {
+        final Set<String> invalidatedRegions = new HashSet<>();
+        final Set<String> clearedRegions = new HashSet<>();
+        for (CacheInvalidation invalidation : invalidations) {
+            if (invalidation.kind == Kind.REGION) {
+                clearedRegions.add(invalidation.region);
+            }
+            else if (invalidation.isRegionWide()) {
+                invalidatedRegions.add(invalidation.kind + ":" + invalidation.region);
+            }
+        }
+        final Set<CacheInvalidation> result = new LinkedHashSet<>();
+        for (CacheInvalidation invalidation : invalidations) {
+            if (invalidation.kind == Kind.REGION) {
+                result.add(invalidation);
+            }
+            else if (!clearedRegions.contains(invalidation.region)
+                    && (invalidation.isRegionWide()
+                        || !invalidatedRegions.contains(invalidation.kind + ":" + invalidation.region))) {
+                result.add(invalidation);
+            }
+        }
+        return List.copyOf(result);
+    }
+}
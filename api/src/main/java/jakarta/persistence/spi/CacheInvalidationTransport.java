@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package jakarta.persistence.spi;
+
+import jakarta.annotation.Nonnull;
+
+import java.util.List;
+
+/**
+ * Broadcasts {@linkplain CacheInvalidation invalidations} of data
+ * held in the second-level cache between the nodes of a cluster,
+ * allowing each node to maintain its own second-level cache without
+ * serving data made stale by a write on another node.
+ * <p>
+ * A transport is specified using the property
+ * {@value jakarta.persistence.Persistence.CacheProperties#CACHE_INVALIDATION_TRANSPORT}.
+ * The persistence provider:
+ * <ul>
+ * <li>calls {@link #start} exactly once, when the entity manager
+ *     factory is created, passing a {@link Listener} which applies
+ *     received invalidations to the local second-level cache,
+ * <li>calls {@link #broadcast} once for each transaction which
+ *     modified cached data, after the transaction commits, passing
+ *     every resulting invalidation, {@linkplain
+ *     CacheInvalidation#coalesce coalesced} into a single batch, and
+ * <li>calls {@link #close} when the entity manager factory is
+ *     closed.
+ * </ul>
+ * <p>
+ * The provider also broadcasts invalidations resulting from calls
+ * to the methods of {@link jakarta.persistence.Cache} and from the
+ * execution of bulk update and delete statements.
+ * <p>
+ * A transport must not deliver a batch back to the node which
+ * broadcast it. A transport is not required to guarantee delivery,
+ * nor to preserve the order of batches broadcast by different nodes.
+ * Every method of a transport must be safe for concurrent use.
+ *
+ * @see CacheInvalidation
+ *
+ * @apiNote This is an SPI interface implemented by a messaging or
+ * clustering library, and called by the persistence provider. It
+ * is not intended for direct use by application programs.
+ *
+ * @since 4.0
+ */
+public interface CacheInvalidationTransport extends AutoCloseable {
+
+    /**
+     * Receives batches of invalidations broadcast by other nodes.
+     *
+     * @since 4.0
+     */
+    @FunctionalInterface
+    interface Listener {
+        /**
+         * Apply the given batch of invalidations to the local
+         * second-level cache.
+         * @param invalidations The invalidations broadcast by
+         *                      another node in a single batch
+         */
+        void invalidate(@Nonnull List<CacheInvalidation> invalidations);
+    }
+
+    /**
+     * Begin receiving invalidations broadcast by other nodes,
+     * delivering them to the given listener.
+     * @param listener The listener to which received batches
+     *                 of invalidations are delivered
+     * @throws IllegalStateException if the transport was
+     *         already started or has been closed
+     */
+    void start(@Nonnull Listener listener);
+
+    /**
+     * Broadcast the given batch of invalidations to every other
+     * node of the cluster.
+     * @param invalidations The invalidations, which should
+     *                      already be coalesced
+     * @throws IllegalStateException if the transport has not
+     *         been started or has been closed
+     */
+    void broadcast(@Nonnull List<CacheInvalidation> invalidations);
+
+    /**
+     * Stop receiving invalidations and release any resources
+     * held by the transport.
+     */
+    @Override
+    void close();
+}
@@ -29,6 +29,10 @@
  * <li>The {@link jakarta.persistence.spi.Discoverable}
  *     meta-annotation identifies annotation types which trigger
  *     automatic discovery of classes by the Jakarta EE container.
+ * <li>{@link jakarta.persistence.spi.CacheInvalidationTransport}
+ *     broadcasts {@linkplain jakarta.persistence.spi.CacheInvalidation
+ *     invalidations} of the second-level cache between the nodes of
+ *     a cluster.
  * </ul>
  */
 package jakarta.persistence.spi;
@@ -48,8 +48,9 @@ import static java.util.Objects.requireNonNull;
  * The index and alias of a tuple entry are determined by the
  * position of the element in {@code TupleMapping} and the
  * {@linkplain MappingElement#getAlias alias} of the element,
- * respectively.
- *
+ * respectively. Numeric entries may be extracted without boxing
+ * via {@link Tuple#getLong(int)}, {@link Tuple#getInt(int)}, and
+ * {@link Tuple#getDouble(int)}.
  *
  * @param elements Mappings for the elements of the tuple
  *